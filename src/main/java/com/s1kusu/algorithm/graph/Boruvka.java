@@ -0,0 +1,132 @@
+package com.s1kusu.algorithm.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import com.s1kusu.data_structure.ConcurrentDJSet;
+
+/**
+ * ブルーフカ法による最小全域木（並列版）。
+ */
+class Boruvka {
+
+    /** スレッドあたりのチャンク数 */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * 与えられた辺からなる重み付きグラフの最小全域木を成す辺のindexを求める。(ブルーフカ法)
+     * ForkJoinPoolの共通プールで並列に計算する。
+     * 計算量：O(|E| log|V|)
+     * @param n 頂点数
+     * @param from 各辺の始点
+     * @param to 各辺の終点
+     * @param cost 各辺のコスト
+     * @return Kruskal.kruskal(n, from, to, cost)と同じ辺のindex（コストの昇順）
+     */
+    public static int[] boruvka(int n, int[] from, int[] to, long[] cost){
+        return boruvka(n, from, to, cost, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 与えられた辺からなる重み付きグラフの最小全域木を成す辺のindexを求める。(ブルーフカ法)
+     * 各ラウンドで、連結成分ごとに最小の辺を並列に求めて一斉に合併する。
+     * 辺は(コスト, index)の順序で比較するため最小全域木は一意に定まり、クラスカル法と同じ辺の集合になる。
+     * 計算量：O(|E| log|V|)
+     * @param n 頂点数
+     * @param from 各辺の始点
+     * @param to 各辺の終点
+     * @param cost 各辺のコスト
+     * @param pool 計算に用いるプール
+     * @return Kruskal.kruskal(n, from, to, cost)と同じ辺のindex（コストの昇順）
+     */
+    public static int[] boruvka(int n, int[] from, int[] to, long[] cost, ForkJoinPool pool){
+        int m = cost.length;
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        ConcurrentDJSet ds = new ConcurrentDJSet(n);
+        AtomicIntegerArray best = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) best.set(v, -1);
+
+        int[] edges = new int[m], next = new int[m];
+        for (int i = 0; i < m; i++) edges[i] = i;
+        int alive = m;
+        int[] offset = new int[chunks + 1];
+        int[] chosen = new int[Math.max(0, n - 1)];
+        AtomicInteger cnt = new AtomicInteger();
+
+        while(0 < alive && cnt.get() < n - 1){
+            int[] cur = edges, nxt = next;
+            int len = alive;
+
+            // 連結成分ごとに最小の辺を求め、同じ成分内の辺を数える
+            parallel(pool, chunks, c -> {
+                int lo = bound(len, chunks, c), hi = bound(len, chunks, c + 1), k = 0;
+                for (int i = lo; i < hi; i++) {
+                    int e = cur[i], ru = ds.root(from[e]), rv = ds.root(to[e]);
+                    if(ru == rv) continue;
+                    k++;
+                    offer(best, ru, e, cost);
+                    offer(best, rv, e, cost);
+                }
+                offset[c + 1] = k;
+            });
+            for (int c = 0; c < chunks; c++) offset[c + 1] += offset[c];
+            alive = offset[chunks];
+            if(alive == 0) break;
+
+            // 同じ成分内の辺を取り除く（合併前なのでrootは変わらない）
+            parallel(pool, chunks, c -> {
+                int lo = bound(len, chunks, c), hi = bound(len, chunks, c + 1), k = offset[c];
+                for (int i = lo; i < hi; i++) {
+                    int e = cur[i];
+                    if(ds.root(from[e]) != ds.root(to[e])) nxt[k++] = e;
+                }
+            });
+            edges = nxt;
+            next = cur;
+
+            // 各成分の最小の辺で合併する（両側から選ばれた辺は片方だけが合併に成功する）
+            parallel(pool, chunks, c -> {
+                int lo = bound(n, chunks, c), hi = bound(n, chunks, c + 1);
+                for (int v = lo; v < hi; v++) {
+                    int e = best.get(v);
+                    if(e < 0) continue;
+                    best.set(v, -1);
+                    if(ds.union(from[e], to[e])) chosen[cnt.getAndIncrement()] = e;
+                }
+            });
+        }
+
+        int[] ret = Arrays.copyOf(chosen, cnt.get());
+        Arrays.sort(ret);
+        long[] c = new long[ret.length];
+        for (int i = 0; i < ret.length; i++) c[i] = cost[ret[i]];
+        int[] order = Kruskal.sortedOrder(c);
+        int[] sorted = new int[ret.length];
+        for (int i = 0; i < ret.length; i++) sorted[i] = ret[order[i]];
+        return sorted;
+    }
+
+    /**
+     * 連結成分rの最小の辺の候補として辺eを提示する。
+     */
+    private static void offer(AtomicIntegerArray best, int r, int e, long[] cost){
+        while(true){
+            int cur = best.get(r);
+            if(0 <= cur && (cost[cur] < cost[e] || cost[cur] == cost[e] && cur < e)) return;
+            if(best.compareAndSet(r, cur, e)) return;
+        }
+    }
+
+    /** 長さlenをchunks個に分けたときのc番目のチャンクの先頭 */
+    private static int bound(int len, int chunks, int c){
+        return (int)((long)len * c / chunks);
+    }
+
+    private static void parallel(ForkJoinPool pool, int chunks, IntConsumer body){
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(body)).join();
+    }
+}
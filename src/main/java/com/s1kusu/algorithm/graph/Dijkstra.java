@@ -3,6 +3,8 @@ package com.s1kusu.algorithm.graph;
 import java.util.Arrays;
 import java.util.PriorityQueue;
 
+import com.s1kusu.data_structure.CsrGraph;
+
 class Dijkstra {
 
     /**
@@ -40,4 +42,81 @@ class Dijkstra {
         return d;
     }
 
+    /**
+     * ダイクストラ法により開始地点からの各頂点への最短距離を求める。
+     * 負の辺を含む場合は無効。
+     * 優先度付きキューには頂点ごとに位置を管理する二分ヒープを用い、オブジェクトを生成しない。
+     * 計算量：O(|E| log|V|)
+     * @param graph 重み付きグラフ
+     * @param s 開始地点
+     * @return 開始地点sからの最短距離を保持した配列（到達できない頂点はLong.MAX_VALUE）
+     */
+    public static long[] dijkstra(CsrGraph graph, int s) {
+        int n = graph.n();
+        // sからの最短距離
+        long[] d = new long[n];
+        Arrays.fill(d, Long.MAX_VALUE);
+        // heap[i]：ヒープのi番目の頂点、pos[v]：頂点vのヒープ内の位置（未追加は-1、確定済みは-2）
+        int[] heap = new int[n];
+        int[] pos = new int[n];
+        Arrays.fill(pos, -1);
+        int size = 0;
+        d[s] = 0;
+        heap[size] = s;
+        pos[s] = size++;
+        while(0 < size){
+            int v = heap[0];
+            pos[v] = -2;
+            size--;
+            if(0 < size){
+                heap[0] = heap[size];
+                pos[heap[0]] = 0;
+                siftDown(heap, pos, d, size, 0);
+            }
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                int to = graph.target(i);
+                if(pos[to] == -2) continue;
+                long nd = d[v] + graph.weight(i);
+                if(d[to] > nd){
+                    d[to] = nd;
+                    if(pos[to] < 0){
+                        heap[size] = to;
+                        pos[to] = size++;
+                    }
+                    siftUp(heap, pos, d, pos[to]);
+                }
+            }
+        }
+
+        return d;
+    }
+
+    private static void siftUp(int[] heap, int[] pos, long[] d, int i) {
+        int v = heap[i];
+        while(0 < i){
+            int p = (i - 1) >> 1;
+            if(d[heap[p]] <= d[v]) break;
+            heap[i] = heap[p];
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
+    private static void siftDown(int[] heap, int[] pos, long[] d, int size, int i) {
+        int v = heap[i];
+        while(true){
+            int c = i * 2 + 1;
+            if(size <= c) break;
+            if(c + 1 < size && d[heap[c + 1]] < d[heap[c]]) c++;
+            if(d[v] <= d[heap[c]]) break;
+            heap[i] = heap[c];
+            pos[heap[i]] = i;
+            i = c;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
 }
@@ -15,7 +15,7 @@ class Kruskal {
      * @return 最小全域木の辺のコストの総和
      */
     public static long kruskal(int n, int[][] edge){
-        Arrays.sort(edge, (x, y) -> x[2] - y[2]);
+        Arrays.sort(edge, (x, y) -> Integer.compare(x[2], y[2]));
         DJSet ds = new DJSet(n);
 
         long ret = 0;
@@ -28,6 +28,70 @@ class Kruskal {
 
         return ret;
     }
+
+    /**
+     * 与えられた辺からなる重み付きグラフの最小全域木を成す辺のindexを求める。(クラスカル法)
+     * 辺はLSD基数ソートで並べ替え、n-1本選んだ時点で打ち切る。
+     * コストが等しい辺はindexの小さい順に選ぶ。
+     * 計算量：O(|E| + |E| α(|V|))
+     * @param n 頂点数
+     * @param from 各辺の始点
+     * @param to 各辺の終点
+     * @param cost 各辺のコスト
+     * @return 最小全域木を成す辺のindex（コストの昇順）。非連結の場合は最小全域森の辺のindex
+     */
+    public static int[] kruskal(int n, int[] from, int[] to, long[] cost){
+        int[] order = sortedOrder(cost);
+        DJSet ds = new DJSet(n);
+
+        int[] chosen = new int[Math.max(0, n - 1)];
+        int cnt = 0;
+        for (int i = 0; i < order.length && cnt < n - 1; i++) {
+            int e = order[i];
+            if(ds.union(from[e], to[e])){
+                chosen[cnt++] = e;
+            }
+        }
+
+        return cnt == chosen.length ? chosen : Arrays.copyOf(chosen, cnt);
+    }
+
+    /**
+     * コストの昇順に並べた辺のindexを求める。(LSD基数ソート、安定)
+     * 全ての値で等しい桁は並べ替えを省略する。
+     * 計算量：O(|E|)
+     * @param cost 各辺のコスト
+     * @return コストの昇順（同じコストはindexの昇順）に並べた辺のindex
+     */
+    static int[] sortedOrder(long[] cost){
+        int m = cost.length;
+        int[] order = new int[m], buf = new int[m];
+        for (int i = 0; i < m; i++) order[i] = i;
+        int[] count = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < m; i++) count[digit(cost[i], shift) + 1]++;
+            boolean trivial = false;
+            for (int d = 1; d <= 256; d++) {
+                if(count[d] == m) trivial = true;
+            }
+            if(trivial) continue;
+            for (int d = 0; d < 256; d++) count[d + 1] += count[d];
+            for (int i = 0; i < m; i++) {
+                int e = order[i];
+                buf[count[digit(cost[e], shift)]++] = e;
+            }
+            int[] t = order;
+            order = buf;
+            buf = t;
+        }
+        return order;
+    }
+
+    /** 符号ビットを反転して符号なしとして比較できるようにしたcostのshiftビット目からの8ビット */
+    private static int digit(long cost, int shift){
+        return (int)(((cost ^ Long.MIN_VALUE) >>> shift) & 0xff);
+    }
 }
 
 class DJSet {
@@ -54,7 +118,15 @@ class DJSet {
      * @return 要素xが含まれる集合のroot
      */
     public int root(int x) {
-        return upper[x] < 0 ? x : (upper[x] = root(upper[x]));
+        int r = x;
+        while (upper[r] >= 0)
+            r = upper[r];
+        while (upper[x] >= 0) {
+            int p = upper[x];
+            upper[x] = r;
+            x = p;
+        }
+        return r;
     }
 
     /**
@@ -108,6 +180,6 @@ class DJSet {
      * @return 要素ｘが含まれる集合の要素数
      */
     public int countElement(int x) {
-        return root(x) * -1;
+        return upper[root(x)] * -1;
     }
 }
@@ -2,6 +2,8 @@ package com.s1kusu.algorithm.graph;
 
 import java.util.*;
 
+import com.s1kusu.data_structure.CsrGraph;
+
 class LCA {
 
     public int n; // 頂点数
@@ -19,6 +21,40 @@ class LCA {
         pars = new int[n][k+1];
         Arrays.fill(depth, -1);
         dfs(root, -1, 0, tree);
+        doubling();
+    }
+
+    // tree：根付き木（無向グラフでもよい）
+    public LCA(int root, CsrGraph tree){
+        this.n = tree.n();
+        this.root = root;
+        k = Integer.toBinaryString(n).length();
+        depth = new int[n];
+        pars = new int[n][k+1];
+        Arrays.fill(depth, -1);
+        bfs(root, tree);
+        doubling();
+    }
+
+    private void bfs(int root, CsrGraph g) {
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = root;
+        pars[root][0] = -1;
+        depth[root] = 0;
+        while(head < tail){
+            int v = queue[head++];
+            for (int i = g.start(v); i < g.end(v); i++) {
+                int c = g.target(i);
+                if(depth[c] != -1) continue;
+                pars[c][0] = v;
+                depth[c] = depth[v] + 1;
+                queue[tail++] = c;
+            }
+        }
+    }
+
+    private void doubling() {
         for (int i = 0; i < k; i++) {
             for (int j = 0; j < n; j++) {
                 if(pars[j][i] < 0) pars[j][i+1] = -1;
@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.s1kusu.data_structure.CsrGraph;
+
 /**
  * 最大流 - MaxFlow
  */
@@ -197,4 +199,129 @@ class MaxFlow {
         return ret;
     }
 
+    /**
+     * 重み付きグラフの各有向辺を、重みを容量とする辺とみなして頂点sから頂点tへの最大流量を求める.<br>
+     * 無向グラフの場合は各辺が両方向の辺として扱われる.<br>
+     * 残余グラフはEdgeオブジェクトを生成せず、graphと同じCSR形式の配列で構築する（有向辺1本につき順辺・逆辺の2本を、それぞれ int 2つ・long 1つで保持する）.<br>
+     * 計算量：O(MN^2) （Mはgraphの有向辺の数）
+     * @param graph 重み付きグラフ
+     * @param s
+     * @param t
+     * @return s-t間の最大流量
+     */
+    public static long flow(CsrGraph graph, int s, int t) {
+        return new CsrResidual(graph).flow(s, t, Long.MAX_VALUE);
+    }
+
+    /**
+     * CSR形式の残余グラフ.<br>
+     * 頂点vの辺は index offsets[v] ～ offsets[v+1]-1 に格納し、辺iの逆辺のindexをrev[i]に持つ.
+     */
+    private static class CsrResidual {
+        private final int n;
+        private final int[] offsets;
+        private final int[] to;
+        private final int[] rev;
+        private final long[] cap;
+        private final int[] level;
+        private final int[] iter;
+        /** 増加路を探索する際に辿っている辺のスタック */
+        private final int[] path;
+
+        CsrResidual(CsrGraph graph) {
+            this.n = graph.n();
+            int m = graph.m();
+            this.offsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                for (int i = graph.start(v); i < graph.end(v); i++) {
+                    offsets[v + 1]++;
+                    offsets[graph.target(i) + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+            this.to = new int[m * 2];
+            this.rev = new int[m * 2];
+            this.cap = new long[m * 2];
+            int[] pos = Arrays.copyOf(offsets, n);
+            for (int v = 0; v < n; v++) {
+                for (int i = graph.start(v); i < graph.end(v); i++) {
+                    int w = graph.target(i);
+                    int p = pos[v]++, q = pos[w]++;
+                    to[p] = w;
+                    cap[p] = graph.weight(i);
+                    rev[p] = q;
+                    to[q] = v;
+                    rev[q] = p;
+                }
+            }
+            this.level = new int[n];
+            this.iter = new int[n];
+            this.path = new int[n];
+        }
+
+        long flow(int s, int t, long flowLimit) {
+            long flow = 0L;
+            while(flow < flowLimit) {
+                bfs(s);
+                if(level[t] < 0) break;
+                System.arraycopy(offsets, 0, iter, 0, n);
+                long f = augment(s, t, flowLimit - flow);
+                if(f == 0) break;
+                flow += f;
+            }
+            return flow;
+        }
+
+        private void bfs(int s) {
+            Arrays.fill(level, -1);
+            int[] q = path;
+            int head = 0, tail = 0;
+            level[s] = 0;
+            q[tail++] = s;
+            while(head < tail) {
+                int v = q[head++];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    if(0 < cap[i] && level[to[i]] < 0) {
+                        level[to[i]] = level[v] + 1;
+                        q[tail++] = to[i];
+                    }
+                }
+            }
+        }
+
+        /**
+         * レベルグラフ上で増加路を繰り返し探索し、limitまで流す（再帰を使わない）.
+         */
+        private long augment(int s, int t, long limit) {
+            long total = 0L;
+            while(total < limit) {
+                int v = s, depth = 0;
+                while(v != t) {
+                    int i = iter[v];
+                    while(i < offsets[v + 1] && (cap[i] <= 0 || level[v] >= level[to[i]])) i++;
+                    iter[v] = i;
+                    if(i < offsets[v + 1]) {
+                        path[depth++] = i;
+                        v = to[i];
+                        continue;
+                    }
+                    // vからtへは到達できないため、以降の探索から除外して1つ戻る
+                    level[v] = -1;
+                    if(depth == 0) return total;
+                    int e = path[--depth];
+                    v = to[rev[e]];
+                    iter[v]++;
+                }
+                long f = limit - total;
+                for (int d = 0; d < depth; d++) f = Math.min(f, cap[path[d]]);
+                for (int d = 0; d < depth; d++) {
+                    cap[path[d]] -= f;
+                    cap[rev[path[d]]] += f;
+                }
+                total += f;
+            }
+            return total;
+        }
+    }
+
 }
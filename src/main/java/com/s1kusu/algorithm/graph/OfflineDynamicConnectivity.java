@@ -0,0 +1,173 @@
+package com.s1kusu.algorithm.graph;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.s1kusu.data_structure.RollbackDJSet;
+
+/**
+ * オフライン動的連結性判定.<br>
+ * 辺の追加・削除と2頂点の連結判定を時刻順に受け付け、solve()でまとめて回答する.<br>
+ * 各辺が存在する時刻の区間を時刻のセグメント木に載せ、木をDFSしながら
+ * Undo可能なUnionFindで辺の追加と取り消しを行う.<br>
+ * 計算量：O((M + Q) logM logN) （Mは操作の数、Qは判定の数）
+ */
+class OfflineDynamicConnectivity {
+
+    private final int n;
+    /** 操作の種類（0:追加、1:削除、2:判定） */
+    private int[] type;
+    private int[] us;
+    private int[] vs;
+    /** 操作の数 */
+    private int time;
+    /** 判定の数 */
+    private int queries;
+
+    /**
+     * N頂点、辺のないグラフを生成する.<br>
+     * 計算量：O(1)
+     * @param n 頂点数
+     */
+    public OfflineDynamicConnectivity(int n) {
+        this.n = n;
+        this.type = new int[16];
+        this.us = new int[16];
+        this.vs = new int[16];
+    }
+
+    /**
+     * 頂点uと頂点vを結ぶ辺を追加する.<br>
+     * 同じ辺を複数回追加した場合は多重辺として扱う.<br>
+     * 計算量：O(1)
+     * @param u
+     * @param v
+     */
+    public void addEdge(int u, int v) {
+        push(0, u, v);
+    }
+
+    /**
+     * 頂点uと頂点vを結ぶ辺を1本削除する.<br>
+     * 計算量：O(1)
+     * @param u
+     * @param v
+     */
+    public void removeEdge(int u, int v) {
+        push(1, u, v);
+    }
+
+    /**
+     * 現時点で頂点uと頂点vが連結かの判定を追加する.<br>
+     * 計算量：O(1)
+     * @param u
+     * @param v
+     * @return 判定の番号（solve()の戻り値のindex）
+     */
+    public int query(int u, int v) {
+        push(2, u, v);
+        return queries++;
+    }
+
+    private void push(int t, int u, int v) {
+        if(time == type.length) {
+            type = Arrays.copyOf(type, time * 2);
+            us = Arrays.copyOf(us, time * 2);
+            vs = Arrays.copyOf(vs, time * 2);
+        }
+        type[time] = t;
+        us[time] = Math.min(u, v);
+        vs[time] = Math.max(u, v);
+        time++;
+    }
+
+    /**
+     * 全ての判定に回答する.<br>
+     * 計算量：O((M + Q) logM logN)
+     * @return i番目の判定で2頂点が連結であればans[i]がtrue
+     * @throws IllegalStateException 存在しない辺を削除していた場合
+     */
+    public boolean[] solve() {
+        boolean[] ans = new boolean[queries];
+        if(time == 0) return ans;
+        int size = 1;
+        while(size < time) size <<= 1;
+
+        // 追加された辺が削除される時刻（削除されない場合はtime）
+        int[] end = new int[time];
+        Arrays.fill(end, time);
+        Map<Long, ArrayDeque<Integer>> open = new HashMap<>();
+        for (int t = 0; t < time; t++) {
+            long key = (long)us[t] * n + vs[t];
+            if(type[t] == 0) {
+                open.computeIfAbsent(key, k -> new ArrayDeque<>()).push(t);
+            }else if(type[t] == 1) {
+                ArrayDeque<Integer> starts = open.get(key);
+                if(starts == null || starts.isEmpty()) {
+                    throw new IllegalStateException("edge (" + us[t] + ", " + vs[t] + ") does not exist at " + t);
+                }
+                end[starts.pop()] = t;
+            }
+        }
+
+        EdgeLists lists = new EdgeLists(size * 2);
+        for (int t = 0; t < time; t++) {
+            if(type[t] != 0) continue;
+            for (int l = t + size, r = end[t] + size; l < r; l >>= 1, r >>= 1) {
+                if((l & 1) == 1) lists.add(l++, us[t], vs[t]);
+                if((r & 1) == 1) lists.add(--r, us[t], vs[t]);
+            }
+        }
+
+        int[] qid = new int[time];
+        for (int t = 0, q = 0; t < time; t++) {
+            if(type[t] == 2) qid[t] = q++;
+        }
+        dfs(1, 0, size, lists, new RollbackDJSet(n), qid, ans);
+        return ans;
+    }
+
+    private void dfs(int k, int lo, int hi, EdgeLists lists, RollbackDJSet dj, int[] qid, boolean[] ans) {
+        if(time <= lo) return;
+        int h = dj.history();
+        for (int e = lists.head[k]; e >= 0; e = lists.next[e]) dj.union(lists.eu[e], lists.ev[e]);
+        if(hi - lo == 1) {
+            if(type[lo] == 2) ans[qid[lo]] = dj.same(us[lo], vs[lo]);
+        }else {
+            int mid = (lo + hi) >>> 1;
+            dfs(k*2, lo, mid, lists, dj, qid, ans);
+            dfs(k*2+1, mid, hi, lists, dj, qid, ans);
+        }
+        dj.rollback(h);
+    }
+
+    /**
+     * 時刻のセグメント木の各ノードに載せる辺の連結リスト.
+     */
+    private static class EdgeLists {
+        final int[] head;
+        int[] next = new int[16];
+        int[] eu = new int[16];
+        int[] ev = new int[16];
+        int cnt;
+
+        EdgeLists(int nodes) {
+            this.head = new int[nodes];
+            Arrays.fill(head, -1);
+        }
+
+        void add(int k, int u, int v) {
+            if(cnt == next.length) {
+                next = Arrays.copyOf(next, cnt * 2);
+                eu = Arrays.copyOf(eu, cnt * 2);
+                ev = Arrays.copyOf(ev, cnt * 2);
+            }
+            eu[cnt] = u;
+            ev[cnt] = v;
+            next[cnt] = head[k];
+            head[k] = cnt++;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.s1kusu.data_structure.CsrGraph;
+
 /**
  * 強連結成分 - Strongly Connected Components.
  */
@@ -105,4 +107,64 @@ class SCC {
         }
     }
 
+    /**
+     * CSR形式のグラフを強連結成分分解する.<br>
+     * 再帰を使わないKosaraju法で、各頂点が属する強連結成分のトポロジカル順序を求める.<br>
+     * 計算量：O(N+M)
+     * @param graph 有向グラフ
+     * @return cmp[v]：頂点vを含む強連結成分のトポロジカル順序（getOrder(v)と同じ値）
+     */
+    public static int[] components(CsrGraph graph) {
+        int n = graph.n();
+        // 帰りがけ順
+        int[] order = new int[n];
+        int cnt = 0;
+        int[] stack = new int[n];
+        int[] iter = new int[n];
+        boolean[] used = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            if(used[i]) continue;
+            int top = 0;
+            stack[top++] = i;
+            used[i] = true;
+            iter[i] = graph.start(i);
+            while(0 < top) {
+                int v = stack[top - 1];
+                if(iter[v] < graph.end(v)) {
+                    int nv = graph.target(iter[v]++);
+                    if(used[nv]) continue;
+                    used[nv] = true;
+                    iter[nv] = graph.start(nv);
+                    stack[top++] = nv;
+                }else {
+                    order[cnt++] = v;
+                    top--;
+                }
+            }
+        }
+
+        CsrGraph rg = graph.reverse();
+        int[] cmp = new int[n];
+        Arrays.fill(cmp, -1);
+        int k = 0;
+        for (int i = n-1; i >= 0; i--) {
+            int s = order[i];
+            if(0 <= cmp[s]) continue;
+            int top = 0;
+            stack[top++] = s;
+            cmp[s] = k;
+            while(0 < top) {
+                int v = stack[--top];
+                for (int e = rg.start(v); e < rg.end(v); e++) {
+                    int nv = rg.target(e);
+                    if(0 <= cmp[nv]) continue;
+                    cmp[nv] = k;
+                    stack[top++] = nv;
+                }
+            }
+            k++;
+        }
+        return cmp;
+    }
+
 }
@@ -25,13 +25,29 @@ class BIT {
         this.bit = new long[n+1];
     }
 
+    /**
+     * コンストラクタ.<br>
+     * a[i-1]をi番目の要素とする長さ n+1 の配列を生成する.<br>
+     * 計算量：O(N)
+     * @param a 初期配列（0-indexed）
+     */
+    public BIT(long[] a){
+        this.n = a.length;
+        this.bit = new long[n+1];
+        System.arraycopy(a, 0, bit, 1, n);
+        for (int i = 1; i <= n; i++) {
+            int j = i + (i & -i);
+            if(j <= n) bit[j] += bit[i];
+        }
+    }
+
     /**
      * i番目の要素にxを加算する.<br>
      * 計算量：O(logN)
      * @param i
      * @param x
      */
-    public void add(int i, int x){
+    public void add(int i, long x){
         while(i <= n){
             bit[i] += x;
             i += i & -i;
@@ -68,7 +84,7 @@ class BIT {
      * @param k
      * @return
      */
-    public int lowerBound(int k){
+    public int lowerBound(long k){
         if(k <= 0) return 0;
         int x = 0;
         int max = 1;
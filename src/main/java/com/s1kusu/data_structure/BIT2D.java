@@ -0,0 +1,77 @@
+package com.s1kusu.data_structure;
+
+/**
+ * 2次元 BinaryIndexedTree.<br>
+ * H×Wの2次元配列に対し以下の操作をO(logH logW)で行うデータ構造.
+ * <ul>
+ * <li>add ：要素の1点変更</li>
+ * <li>sum：矩形領域の要素の総和</li>
+ * </ul>
+ * 要素のIndexは1-indexed.
+ */
+class BIT2D {
+
+    private final int h;
+    private final int w;
+    /** bit[i * (w+1) + j]：2次元配列を1次元に詰めたもの */
+    private final long[] bit;
+
+    /**
+     * コンストラクタ.<br>
+     * (h+1)×(w+1)、初期値 0の配列を生成する.<br>
+     * 計算量：O(HW)
+     * @param h
+     * @param w
+     */
+    public BIT2D(int h, int w){
+        this.h = h;
+        this.w = w;
+        this.bit = new long[(h+1) * (w+1)];
+    }
+
+    /**
+     * (i, j)の要素にxを加算する.<br>
+     * 計算量：O(logH logW)
+     * @param i
+     * @param j
+     * @param x
+     */
+    public void add(int i, int j, long x){
+        for (int a = i; a <= h; a += a & -a) {
+            int row = a * (w+1);
+            for (int b = j; b <= w; b += b & -b) {
+                bit[row + b] += x;
+            }
+        }
+    }
+
+    /**
+     * (1, 1)～(i, j)の矩形領域の要素の総和.<br>
+     * 計算量：O(logH logW)
+     * @param i
+     * @param j
+     */
+    public long sum(int i, int j){
+        long s = 0L;
+        for (int a = i; 0 < a; a -= a & -a) {
+            int row = a * (w+1);
+            for (int b = j; 0 < b; b -= b & -b) {
+                s += bit[row + b];
+            }
+        }
+        return s;
+    }
+
+    /**
+     * (i1, j1)～(i2, j2)の矩形領域の要素の総和.<br>
+     * 計算量：O(logH logW)
+     * @param i1
+     * @param j1
+     * @param i2
+     * @param j2
+     */
+    public long sum(int i1, int j1, int i2, int j2) {
+        return sum(i2, j2) - sum(i1-1, j2) - sum(i2, j1-1) + sum(i1-1, j1-1);
+    }
+
+}
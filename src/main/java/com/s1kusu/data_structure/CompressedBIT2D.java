@@ -0,0 +1,133 @@
+package com.s1kusu.data_structure;
+
+import java.util.Arrays;
+
+/**
+ * 座標圧縮した2次元 BinaryIndexedTree.<br>
+ * 更新する点の座標を先に与えることで、疎な点集合に対し以下の操作をO(log^2 P)で行う.
+ * <ul>
+ * <li>add ：点の値の変更（構築時に与えた点のみ）</li>
+ * <li>sum：矩形領域[x1, x2)×[y1, y2)に含まれる点の値の総和</li>
+ * </ul>
+ * x座標のBITの各ノードが、担当する点のy座標のソート済み配列とそのBITを持つ.<br>
+ * メモリ使用量はO(P logP)（Pは点の数）で、座標の範囲には依存しない.
+ */
+class CompressedBIT2D {
+
+    /** x座標（ソート済み、重複なし） */
+    private final long[] xs;
+    /** x座標のBITのノードiが担当するy座標・BITの開始位置 */
+    private final int[] start;
+    /** x座標のBITのノードiが担当するy座標の数 */
+    private final int[] len;
+    /** 各ノードのy座標（ノードごとにソート済み、重複なし） */
+    private final long[] ys;
+    /** 各ノードのy座標に対するBIT（ys と同じ位置に対応） */
+    private final long[] bit;
+
+    /**
+     * 値を変更する点の座標を与えて、全ての点の値を0で初期化するコンストラクタ.<br>
+     * 計算量：O(P log^2 P)
+     * @param px 点のx座標
+     * @param py 点のy座標
+     */
+    public CompressedBIT2D(long[] px, long[] py){
+        int p = px.length;
+        long[] sorted = px.clone();
+        Arrays.sort(sorted);
+        int nx = 0;
+        for (int i = 0; i < p; i++) {
+            if(nx == 0 || sorted[nx-1] != sorted[i]) sorted[nx++] = sorted[i];
+        }
+        this.xs = Arrays.copyOf(sorted, nx);
+
+        int[] count = new int[nx+1];
+        for (int k = 0; k < p; k++) {
+            for (int i = xIndex(px[k]); i <= nx; i += i & -i) count[i]++;
+        }
+        this.start = new int[nx+2];
+        for (int i = 1; i <= nx; i++) start[i+1] = start[i] + count[i];
+        this.ys = new long[start[nx+1]];
+        int[] pos = Arrays.copyOf(start, nx+1);
+        for (int k = 0; k < p; k++) {
+            for (int i = xIndex(px[k]); i <= nx; i += i & -i) ys[pos[i]++] = py[k];
+        }
+        this.len = new int[nx+1];
+        for (int i = 1; i <= nx; i++) {
+            Arrays.sort(ys, start[i], start[i+1]);
+            int m = 0;
+            for (int j = start[i]; j < start[i+1]; j++) {
+                if(m == 0 || ys[start[i] + m - 1] != ys[j]) ys[start[i] + m++] = ys[j];
+            }
+            len[i] = m;
+        }
+        this.bit = new long[ys.length];
+    }
+
+    /**
+     * 点(x, y)の値にwを加算する.<br>
+     * (x, y)は構築時に与えた点である必要がある.<br>
+     * 計算量：O(log^2 P)
+     * @param x
+     * @param y
+     * @param w
+     */
+    public void add(long x, long y, long w){
+        for (int i = xIndex(x); i <= xs.length; i += i & -i) {
+            int s = start[i], n = len[i];
+            for (int j = lowerBound(ys, s, s + n, y) - s + 1; j <= n; j += j & -j) {
+                bit[s + j - 1] += w;
+            }
+        }
+    }
+
+    /**
+     * x座標がx未満かつy座標がy未満の点の値の総和.<br>
+     * 計算量：O(log^2 P)
+     * @param x
+     * @param y
+     */
+    public long sum(long x, long y){
+        long ret = 0L;
+        for (int i = lowerBound(xs, 0, xs.length, x); 0 < i; i -= i & -i) {
+            int s = start[i];
+            for (int j = lowerBound(ys, s, s + len[i], y) - s; 0 < j; j -= j & -j) {
+                ret += bit[s + j - 1];
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * 矩形領域[x1, x2)×[y1, y2)に含まれる点の値の総和.<br>
+     * 計算量：O(log^2 P)
+     * @param x1
+     * @param y1
+     * @param x2
+     * @param y2
+     */
+    public long sum(long x1, long y1, long x2, long y2) {
+        return sum(x2, y2) - sum(x1, y2) - sum(x2, y1) + sum(x1, y1);
+    }
+
+    /**
+     * x座標の1-indexedのindexを求める.
+     */
+    private int xIndex(long x) {
+        return lowerBound(xs, 0, xs.length, x) + 1;
+    }
+
+    /**
+     * a[from, to)のうち key ≦ a[i] となる最小のiを求める.
+     */
+    private static int lowerBound(long[] a, int from, int to, long key) {
+        int lo = from, hi = to;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+}
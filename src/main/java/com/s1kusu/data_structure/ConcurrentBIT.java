@@ -0,0 +1,130 @@
+package com.s1kusu.data_structure;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * スレッドセーフな BinaryIndexedTree.<br>
+ * LongAdder と同様に、BITの配列をストライプ数だけ持ち、各スレッドは自身に割り当てられたストライプを
+ * VarHandleによるアトミックな加算で更新する.取得時は全ストライプの値を合算する.<br>
+ * add同士はストライプが異なれば競合しないため、コア数に応じてスケールする.<br>
+ * sum・lowerBoundは並行するaddの一部のみを反映した値を返すことがある（LongAdder.sumと同様）が、
+ * 各addは欠落・重複なく反映される.<br>
+ * メモリ使用量はO(N × ストライプ数).<br>
+ * 要素のIndexは1-indexed.
+ */
+class ConcurrentBIT {
+
+    private static final VarHandle CELL = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int n;
+    /** ストライプ数 - 1 */
+    private final int mask;
+    /** cells[s]：ストライプsのBIT */
+    private final long[][] cells;
+
+    /**
+     * コンストラクタ.<br>
+     * 利用可能なプロセッサ数以上の最小の2の累乗数をストライプ数とする.<br>
+     * 計算量：O(N × ストライプ数)
+     * @param n
+     */
+    public ConcurrentBIT(int n){
+        this(n, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * コンストラクタ.<br>
+     * stripes以上の最小の2の累乗数をストライプ数とする.<br>
+     * 計算量：O(N × ストライプ数)
+     * @param n
+     * @param stripes
+     */
+    public ConcurrentBIT(int n, int stripes){
+        int tmp = 1;
+        while(tmp < stripes) tmp *= 2;
+        this.n = n;
+        this.mask = tmp - 1;
+        this.cells = new long[tmp][n+1];
+    }
+
+    /**
+     * i番目の要素にxを加算する.<br>
+     * 計算量：O(logN)
+     * @param i
+     * @param x
+     */
+    public void add(int i, long x){
+        long[] bit = cells[stripe()];
+        while(i <= n){
+            CELL.getAndAdd(bit, i, x);
+            i += i & -i;
+        }
+    }
+
+    /**
+     * 0～i番目までの要素の総和.<br>
+     * 計算量：O(logN × ストライプ数)
+     * @param i
+     */
+    public long sum(int i){
+        long s = 0L;
+        for(long[] bit : cells) {
+            for (int j = i; 0 < j; j -= j & -j) {
+                s += (long) CELL.getVolatile(bit, j);
+            }
+        }
+        return s;
+    }
+
+    /**
+     * l～r番目までの要素の総和.<br>
+     * 計算量：O(logN × ストライプ数)
+     * @param l
+     * @param r
+     */
+    public long sum(int l, int r) {
+        return sum(r) - sum(l-1);
+    }
+
+    /**
+     * k ≦ sum(x) となる最小のxを求める.<br>
+     * 計算量：O(logN × ストライプ数)
+     * @param k
+     * @return
+     */
+    public int lowerBound(long k){
+        if(k <= 0) return 0;
+        int x = 0;
+        int max = 1;
+        while(max < n) max *= 2;
+        for (int i = max; i > 0; i /= 2) {
+            if(x + i <= n){
+                long v = node(x + i);
+                if(v < k) {
+                    k -= v;
+                    x += i;
+                }
+            }
+        }
+        return x + 1;
+    }
+
+    /**
+     * 全ストライプのノードiの値を合算する.
+     */
+    private long node(int i) {
+        long s = 0L;
+        for(long[] bit : cells) s += (long) CELL.getVolatile(bit, i);
+        return s;
+    }
+
+    /**
+     * 呼び出し元のスレッドに割り当てるストライプを求める.
+     */
+    private int stripe() {
+        long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int)(h >>> 32) & mask;
+    }
+
+}
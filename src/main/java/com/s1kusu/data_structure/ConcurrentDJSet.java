@@ -0,0 +1,169 @@
+package com.s1kusu.data_structure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * スレッドセーフな Disjoint Set (UnionFindTree).<br>
+ * 親の更新をCASで行い、ロックを取らずに複数スレッドからunion/same/rootを呼び出せる.<br>
+ * 合併時はindexの大きいrootを小さいrootの下につなぐため、親のindexは常に小さくなり閉路はできない.<br>
+ * union by size/rankを行わずpath halvingのみのため、各操作の計算量は償却O(logN)となる.<br>
+ * 要素数は合併後に新しいrootへ転送するため、合併中の集合についてはcountElementが一時的に小さい値を返すことがある.
+ */
+public class ConcurrentDJSet {
+    /**
+     * 各要素の親を保持する配列.<br>
+     * 自身が根である要素は自身のindexを持つ.
+     */
+    private final AtomicIntegerArray par;
+    /**
+     * 各要素に割り当てられている要素数.<br>
+     * rootでは集合の要素数、root以外では転送待ちの要素数（通常は0）.
+     */
+    private final AtomicIntegerArray size;
+    /** 要素数 */
+    private final int N;
+
+    /**
+     * 自身をrootとする(各要素が互いに素である)要素数Nの集合を生成する.<br>
+     * 計算量：O(N)
+     * @param n 対象となる要素数
+     */
+    public ConcurrentDJSet(int n){
+        this.N = n;
+        this.par = new AtomicIntegerArray(n);
+        this.size = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            par.set(i, i);
+            size.set(i, 1);
+        }
+    }
+
+    /**
+     * 要素xが含まれる集合のrootを求める.<br>
+     * 辿った要素の親を祖父に付け替える（path halving）.
+     * 付け替えは一度だけCASを試み、失敗しても待たずに先へ進む.<br>
+     * 計算量：償却O(logN)
+     * @param x 要素x
+     * @return 要素xが含まれる集合のroot
+     */
+    public int root(int x){
+        while(true) {
+            int p = par.get(x);
+            if(p == x) return x;
+            int gp = par.get(p);
+            if(p == gp) return p;
+            par.compareAndSet(x, p, gp);
+            x = gp;
+        }
+    }
+
+    /**
+     * 要素xと要素yを含むそれぞれの集合を合併する.<br>
+     * indexの小さいrootを残し、大きいほうのrootをその下に合併する.<br>
+     * 計算量：償却O(logN)
+     * @param x 要素x
+     * @param y 要素y
+     * @return 要素xと要素yを含むそれぞれの集合を合併できたらtrue、もともと同じ集合で合併しなかったらfalseを返す。
+     */
+    public boolean union(int x, int y){
+        while(true) {
+            x = root(x);
+            y = root(y);
+            if(x == y) return false;
+            if(y < x){
+                int t = x;
+                x = y;
+                y = t;
+            }
+            if(par.compareAndSet(y, y, x)) {
+                forward(y);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * root以外の要素xに残っている要素数を、xが含まれる集合のrootへ転送する.<br>
+     * 転送先が転送中にrootでなくなった場合は、さらにその先へ転送する.
+     */
+    private void forward(int x){
+        while(true) {
+            int s = size.getAndSet(x, 0);
+            if(s == 0) return;
+            int r = root(x);
+            size.getAndAdd(r, s);
+            if(par.get(r) == r) return;
+            x = r;
+        }
+    }
+
+    /**
+     * 要素xと要素yが同じ集合か判定する.<br>
+     * 計算量：償却O(logN)
+     * @param x 要素x
+     * @param y 要素y
+     * @return 要素xと要素yが同じ集合であればtrue、そうでなければfalseを返す。
+     */
+    public boolean same(int x, int y){
+        while(true) {
+            x = root(x);
+            y = root(y);
+            if(x == y) return true;
+            if(par.get(x) == x) return false;
+        }
+    }
+
+    /**
+     * 集合の数を数える.<br>
+     * 他のスレッドが合併中の場合は、その時点の近似値となる.<br>
+     * 計算量：O(N)
+     * @return 集合の数
+     */
+    public int countSet(){
+        int c = 0;
+        for (int i = 0; i < N; i++) {
+            if(par.get(i) == i) c++;
+        }
+        return c;
+    }
+
+    /**
+     * 要素ｘが含まれる集合の要素数を数える.<br>
+     * 他のスレッドが合併中の場合は、転送前の要素数を含まないことがある.<br>
+     * 計算量：償却O(logN)
+     * @param x 要素ｘ
+     * @return 要素ｘが含まれる集合の要素数
+     */
+    public int countElement(int x){
+        while(true) {
+            int r = root(x);
+            int s = size.get(r);
+            if(par.get(r) == r) return s;
+        }
+    }
+
+    /**
+     * 連結成分ごとの頂点リストのリストを取得する.<br>
+     * 他のスレッドが合併中の場合は、各要素を読んだ時点の集合に従って分類する.<br>
+     * 計算量：O(N)
+     * @return 連結成分ごとの頂点リストのリスト
+     */
+    public List<List<Integer>> groups(){
+        List<List<Integer>> groups = new ArrayList<>();
+        Map<Integer, List<Integer>> map = new HashMap<>();
+        for (int i = 0; i < N; i++) {
+            Integer root = root(i);
+            if(!map.containsKey(root)) {
+                List<Integer> list = new ArrayList<>();
+                map.put(root, list);
+                groups.add(list);
+            }
+            map.get(root).add(i);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,78 @@
+package com.s1kusu.data_structure;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * スレッドセーフな TreeMultiSet.<br>
+ * ConcurrentSkipListMap上で個数の更新をCASで行い、ロックを取らずに並行して更新できる.<br>
+ * 個数が0になったキーは、その値のままである場合に限り原子的に削除される.
+ */
+class ConcurrentTreeMultiSet<K> extends ConcurrentSkipListMap<K, Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * keyの個数にvalを加算する.<br>
+     * 計算量：O(logN)
+     * @param key
+     * @param val 加算する個数
+     * @return 更新後の個数
+     */
+    public long update(K key, long val){
+        while(true) {
+            Long cur = get(key);
+            if(cur == null) {
+                if(val == 0) return 0L;
+                if(putIfAbsent(key, val) == null) return val;
+                continue;
+            }
+            long result = cur + val;
+            if(result == 0) {
+                if(remove(key, cur)) return 0L;
+            }else {
+                if(replace(key, cur, result)) return result;
+            }
+        }
+    }
+
+    public long push(K key){
+        return update(key, 1);
+    }
+
+    public long pop(K key){
+        return update(key, -1);
+    }
+
+    public long count(K key){
+        Long val = get(key);
+        return val == null ? 0L : val;
+    }
+
+    public boolean contains(K key){
+        return containsKey(key);
+    }
+
+    public K first(){
+        return firstKey();
+    }
+
+    public K last(){
+        return lastKey();
+    }
+
+    public K floor(K key){
+        return floorKey(key);
+    }
+
+    public K ceiling(K key){
+        return ceilingKey(key);
+    }
+
+    public K higher(K key){
+        return higherKey(key);
+    }
+
+    public K lower(K key){
+        return lowerKey(key);
+    }
+}
@@ -0,0 +1,205 @@
+package com.s1kusu.data_structure;
+
+import java.util.Arrays;
+
+/**
+ * CSR形式（Compressed Sparse Row）の不変なグラフ.<br>
+ * 頂点vから出る辺は index offsets[v] ～ offsets[v+1]-1 に連続して格納され、
+ * 辺iの行き先はtargets[i]、重みはweights[i]とする.<br>
+ * 辺1本あたり int 1つ（重み付きの場合はさらに long 1つ）で保持し、隣接頂点の走査は配列を順に読むだけで済む.<br>
+ * 無向グラフは各辺を両方向の2本の有向辺として保持する.
+ */
+public class CsrGraph {
+    /** 頂点数 */
+    private final int N;
+    /** 頂点vから出る辺の先頭index（長さN+1） */
+    private final int[] offsets;
+    /** 辺の行き先 */
+    private final int[] targets;
+    /** 辺の重み（重みなしの場合はnull） */
+    private final long[] weights;
+
+    private CsrGraph(int n, int[] offsets, int[] targets, long[] weights){
+        this.N = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * 辺の情報から有向グラフを生成する.<br>
+     * 各頂点から出る辺は与えられた順に並ぶ.<br>
+     * 計算量：O(N + M)
+     * @param n 頂点の数
+     * @param from 各辺の始点
+     * @param to 各辺の終点
+     * @return 生成したグラフ
+     */
+    public static CsrGraph directed(int n, int[] from, int[] to){
+        return build(n, from, to, null, false);
+    }
+
+    /**
+     * 辺の情報から重み付き有向グラフを生成する.<br>
+     * 各頂点から出る辺は与えられた順に並ぶ.<br>
+     * 計算量：O(N + M)
+     * @param n 頂点の数
+     * @param from 各辺の始点
+     * @param to 各辺の終点
+     * @param weight 各辺の重み
+     * @return 生成したグラフ
+     */
+    public static CsrGraph directed(int n, int[] from, int[] to, long[] weight){
+        return build(n, from, to, weight, false);
+    }
+
+    /**
+     * 辺の情報から無向グラフを生成する.<br>
+     * 計算量：O(N + M)
+     * @param n 頂点の数
+     * @param from 各辺の端点
+     * @param to 各辺のもう一方の端点
+     * @return 生成したグラフ
+     */
+    public static CsrGraph undirected(int n, int[] from, int[] to){
+        return build(n, from, to, null, true);
+    }
+
+    /**
+     * 辺の情報から重み付き無向グラフを生成する.<br>
+     * 計算量：O(N + M)
+     * @param n 頂点の数
+     * @param from 各辺の端点
+     * @param to 各辺のもう一方の端点
+     * @param weight 各辺の重み
+     * @return 生成したグラフ
+     */
+    public static CsrGraph undirected(int n, int[] from, int[] to, long[] weight){
+        return build(n, from, to, weight, true);
+    }
+
+    private static CsrGraph build(int n, int[] from, int[] to, long[] weight, boolean undirected){
+        int m = from.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            offsets[from[i] + 1]++;
+            if(undirected) offsets[to[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+        int[] pos = Arrays.copyOf(offsets, n);
+        int[] targets = new int[offsets[n]];
+        long[] weights = weight == null ? null : new long[offsets[n]];
+        for (int i = 0; i < m; i++) {
+            int p = pos[from[i]]++;
+            targets[p] = to[i];
+            if(weights != null) weights[p] = weight[i];
+            if(undirected) {
+                p = pos[to[i]]++;
+                targets[p] = from[i];
+                if(weights != null) weights[p] = weight[i];
+            }
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+    /**
+     * 全ての辺の向きを反転したグラフを生成する.<br>
+     * 計算量：O(N + M)
+     * @return 辺の向きを反転したグラフ
+     */
+    public CsrGraph reverse(){
+        int[] offsets = new int[N + 1];
+        for(int t : targets) offsets[t + 1]++;
+        for (int v = 0; v < N; v++) offsets[v + 1] += offsets[v];
+        int[] pos = Arrays.copyOf(offsets, N);
+        int[] targets = new int[this.targets.length];
+        long[] weights = this.weights == null ? null : new long[this.weights.length];
+        for (int v = 0; v < N; v++) {
+            for (int i = this.offsets[v]; i < this.offsets[v + 1]; i++) {
+                int p = pos[this.targets[i]]++;
+                targets[p] = v;
+                if(weights != null) weights[p] = this.weights[i];
+            }
+        }
+        return new CsrGraph(N, offsets, targets, weights);
+    }
+
+    /**
+     * 頂点数を取得する.<br>
+     * 計算量：O(1)
+     * @return 頂点数
+     */
+    public int n(){
+        return N;
+    }
+
+    /**
+     * 格納している有向辺の数を取得する（無向グラフでは辺の数の2倍）.<br>
+     * 計算量：O(1)
+     * @return 有向辺の数
+     */
+    public int m(){
+        return targets.length;
+    }
+
+    /**
+     * 頂点vから出る辺の先頭indexを取得する.<br>
+     * 計算量：O(1)
+     * @param v 頂点
+     * @return 頂点vから出る辺の先頭index（含む）
+     */
+    public int start(int v){
+        return offsets[v];
+    }
+
+    /**
+     * 頂点vから出る辺の末尾indexを取得する.<br>
+     * 計算量：O(1)
+     * @param v 頂点
+     * @return 頂点vから出る辺の末尾index（含まない）
+     */
+    public int end(int v){
+        return offsets[v + 1];
+    }
+
+    /**
+     * 頂点vの出次数を取得する.<br>
+     * 計算量：O(1)
+     * @param v 頂点
+     * @return 頂点vから出る辺の数
+     */
+    public int degree(int v){
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * 辺iの行き先を取得する.<br>
+     * 計算量：O(1)
+     * @param i 辺のindex
+     * @return 辺iの行き先
+     */
+    public int target(int i){
+        return targets[i];
+    }
+
+    /**
+     * 辺iの重みを取得する.<br>
+     * 計算量：O(1)
+     * @param i 辺のindex
+     * @return 辺iの重み
+     * @throws IllegalStateException 重みなしのグラフの場合
+     */
+    public long weight(int i){
+        if(weights == null) throw new IllegalStateException("graph has no weights");
+        return weights[i];
+    }
+
+    /**
+     * 重み付きのグラフか判定する.<br>
+     * 計算量：O(1)
+     * @return 重み付きであればtrue
+     */
+    public boolean hasWeights(){
+        return weights != null;
+    }
+}
@@ -32,13 +32,20 @@ public class DJSet {
 
     /**
      * 要素xが含まれる集合のrootを求める.<br>
-     * rootを求める過程で経路圧縮しrootが親になるようにする.<br>
+     * rootを求める過程で辿った要素の親を祖父に付け替える（path halving）.<br>
+     * 再帰を使わないため、長い鎖でもスタックオーバーフローしない.<br>
      * 計算量：O(1)
      * @param x 要素x
      * @return 要素xが含まれる集合のroot
      */
     public int root(int x){
-        return par[x] < 0 ? x : (par[x] = root(par[x]));
+        while(0 <= par[x]){
+            int p = par[x];
+            if(par[p] < 0) return p;
+            par[x] = par[p];
+            x = par[x];
+        }
+        return x;
     }
 
     /**
@@ -117,4 +124,32 @@ public class DJSet {
         }
         return groups;
     }
+
+    /**
+     * 連結成分ごとの頂点をCSR形式で取得する.<br>
+     * 連結成分の順序と各連結成分内の頂点の順序はgroups()と同じ.<br>
+     * g番目の連結成分の頂点は members[offsets[g]] ～ members[offsets[g+1]-1].<br>
+     * 計算量：O(N)
+     * @return {offsets, members} （offsetsの長さは連結成分の数+1、membersの長さはN）
+     */
+    public int[][] groupsCsr(){
+        int[] id = new int[N];
+        Arrays.fill(id, -1);
+        int[] offsets = new int[countSet() + 1];
+        int g = 0;
+        for (int i = 0; i < N; i++) {
+            int r = root(i);
+            if(id[r] < 0) {
+                id[r] = g;
+                offsets[g + 1] = offsets[g] - par[r];
+                g++;
+            }
+        }
+        int[] pos = Arrays.copyOf(offsets, g);
+        int[] members = new int[N];
+        for (int i = 0; i < N; i++) {
+            members[pos[id[root(i)]]++] = i;
+        }
+        return new int[][] {offsets, members};
+    }
 }
@@ -0,0 +1,365 @@
+package com.s1kusu.data_structure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * long値の多重集合（Treap）.<br>
+ * TreeMultiSet と同じ操作に加え、k番目の要素・順位をO(logN)で求める.<br>
+ * ノードはオブジェクトではなく配列で管理し、削除したノードは再利用するため
+ * 操作ごとのオブジェクト生成は発生しない（配列の拡張時を除く）.<br>
+ * floor・ceiling等で該当する要素が存在しない場合は、
+ * 下側の探索はLong.MIN_VALUE、上側の探索はLong.MAX_VALUEを返す.
+ */
+class LongMultiSet {
+
+    /** 配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** ノードのキー */
+    private long[] key;
+    /** ノードのキーの個数 */
+    private long[] cnt;
+    /** 部分木に含まれる要素数（個数の合計） */
+    private long[] size;
+    /**
+     * ノードの左の子のindex.<br>
+     * index 0 は空のノードを表す.未使用のノードでは次の未使用ノードを指す.
+     */
+    private int[] left;
+    /** ノードの右の子のindex */
+    private int[] right;
+    /** ノードの優先度（0以上、空のノードは-1） */
+    private int[] pri;
+    /** 根のindex */
+    private int root;
+    /** 使用済みのノード数（未使用リストに戻したものを含む） */
+    private int nodeCount;
+    /** 未使用ノードのリストの先頭（無い場合は0） */
+    private int free;
+    /** 異なるキーの数 */
+    private int distinct;
+    /** 優先度を生成する乱数の状態 */
+    private int seed;
+    /** update後のキーの個数 */
+    private long updated;
+
+    /**
+     * 空の多重集合を生成する.<br>
+     * 計算量：O(1)
+     */
+    public LongMultiSet(){
+        this.key = new long[INITIAL_CAPACITY];
+        this.cnt = new long[INITIAL_CAPACITY];
+        this.size = new long[INITIAL_CAPACITY];
+        this.left = new int[INITIAL_CAPACITY];
+        this.right = new int[INITIAL_CAPACITY];
+        this.pri = new int[INITIAL_CAPACITY];
+        this.pri[0] = -1;
+        this.nodeCount = 1;
+        this.seed = 2463534;
+    }
+
+    /**
+     * keyの個数にvalを加算する.<br>
+     * 個数が0以下になった場合はkeyを削除する.<br>
+     * 計算量：O(logN)
+     * @param key
+     * @param val
+     * @return 加算後のkeyの個数（削除した場合は0）
+     */
+    public long update(long key, long val){
+        root = update(root, key, val);
+        return updated;
+    }
+
+    public long push(long key){
+        return update(key, 1);
+    }
+
+    public long pop(long key){
+        return update(key, -1);
+    }
+
+    /**
+     * keyの個数を求める.<br>
+     * 計算量：O(logN)
+     * @param key
+     * @return keyの個数
+     */
+    public long count(long key){
+        int t = find(key);
+        return t == 0 ? 0L : cnt[t];
+    }
+
+    public boolean contains(long key){
+        return find(key) != 0;
+    }
+
+    /**
+     * 要素数（重複を含む）を求める.<br>
+     * 計算量：O(1)
+     * @return 要素数
+     */
+    public long size(){
+        return size[root];
+    }
+
+    /**
+     * 異なるキーの数を求める.<br>
+     * 計算量：O(1)
+     * @return 異なるキーの数
+     */
+    public int distinctSize(){
+        return distinct;
+    }
+
+    public boolean isEmpty(){
+        return root == 0;
+    }
+
+    public long first(){
+        if(root == 0) throw new NoSuchElementException();
+        int t = root;
+        while(left[t] != 0) t = left[t];
+        return key[t];
+    }
+
+    public long last(){
+        if(root == 0) throw new NoSuchElementException();
+        int t = root;
+        while(right[t] != 0) t = right[t];
+        return key[t];
+    }
+
+    public long floor(long k){
+        long ret = Long.MIN_VALUE;
+        for (int t = root; t != 0;) {
+            if(key[t] == k) return k;
+            if(key[t] < k) {
+                ret = key[t];
+                t = right[t];
+            }else {
+                t = left[t];
+            }
+        }
+        return ret;
+    }
+
+    public long ceiling(long k){
+        long ret = Long.MAX_VALUE;
+        for (int t = root; t != 0;) {
+            if(key[t] == k) return k;
+            if(k < key[t]) {
+                ret = key[t];
+                t = left[t];
+            }else {
+                t = right[t];
+            }
+        }
+        return ret;
+    }
+
+    public long higher(long k){
+        long ret = Long.MAX_VALUE;
+        for (int t = root; t != 0;) {
+            if(k < key[t]) {
+                ret = key[t];
+                t = left[t];
+            }else {
+                t = right[t];
+            }
+        }
+        return ret;
+    }
+
+    public long lower(long k){
+        long ret = Long.MIN_VALUE;
+        for (int t = root; t != 0;) {
+            if(key[t] < k) {
+                ret = key[t];
+                t = right[t];
+            }else {
+                t = left[t];
+            }
+        }
+        return ret;
+    }
+
+    public long pushFirst(){
+        long first = first();
+        push(first);
+        return first;
+    }
+
+    public long pushLast(){
+        long last = last();
+        push(last);
+        return last;
+    }
+
+    public long popFirst(){
+        long first = first();
+        pop(first);
+        return first;
+    }
+
+    public long popLast(){
+        long last = last();
+        pop(last);
+        return last;
+    }
+
+    /**
+     * 小さい方からk番目（0-indexed、重複を含む）の要素を求める.<br>
+     * 計算量：O(logN)
+     * @param k 0 ≦ k &lt; size()
+     * @return k番目の要素
+     */
+    public long kth(long k){
+        if(k < 0 || size[root] <= k) throw new NoSuchElementException();
+        int t = root;
+        while(true) {
+            if(k < size[left[t]]) {
+                t = left[t];
+                continue;
+            }
+            k -= size[left[t]];
+            if(k < cnt[t]) return key[t];
+            k -= cnt[t];
+            t = right[t];
+        }
+    }
+
+    /**
+     * x未満の要素数（重複を含む）を求める.<br>
+     * 計算量：O(logN)
+     * @param x
+     * @return x未満の要素数
+     */
+    public long rank(long x){
+        long ret = 0L;
+        for (int t = root; t != 0;) {
+            if(key[t] < x) {
+                ret += size[left[t]] + cnt[t];
+                t = right[t];
+            }else {
+                t = left[t];
+            }
+        }
+        return ret;
+    }
+
+    private int find(long k) {
+        int t = root;
+        while(t != 0 && key[t] != k) t = k < key[t] ? left[t] : right[t];
+        return t;
+    }
+
+    private int update(int t, long k, long val) {
+        if(t == 0) {
+            if(val <= 0) {
+                updated = 0L;
+                return 0;
+            }
+            updated = val;
+            distinct++;
+            return newNode(k, val);
+        }
+        if(key[t] == k) {
+            cnt[t] += val;
+            if(cnt[t] <= 0) {
+                updated = 0L;
+                distinct--;
+                int m = merge(left[t], right[t]);
+                release(t);
+                return m;
+            }
+            updated = cnt[t];
+            pull(t);
+            return t;
+        }
+        if(k < key[t]) {
+            int c = update(left[t], k, val);
+            left[t] = c;
+            if(pri[t] < pri[c]) t = rotateRight(t);
+        }else {
+            int c = update(right[t], k, val);
+            right[t] = c;
+            if(pri[t] < pri[c]) t = rotateLeft(t);
+        }
+        pull(t);
+        return t;
+    }
+
+    private int merge(int a, int b) {
+        if(a == 0) return b;
+        if(b == 0) return a;
+        if(pri[b] < pri[a]) {
+            right[a] = merge(right[a], b);
+            pull(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        pull(b);
+        return b;
+    }
+
+    private int rotateRight(int t) {
+        int l = left[t];
+        left[t] = right[l];
+        right[l] = t;
+        pull(t);
+        pull(l);
+        return l;
+    }
+
+    private int rotateLeft(int t) {
+        int r = right[t];
+        right[t] = left[r];
+        left[r] = t;
+        pull(t);
+        pull(r);
+        return r;
+    }
+
+    private void pull(int t) {
+        size[t] = size[left[t]] + size[right[t]] + cnt[t];
+    }
+
+    private int newNode(long k, long val) {
+        int t;
+        if(free != 0) {
+            t = free;
+            free = left[t];
+        }else {
+            if(nodeCount == key.length) grow();
+            t = nodeCount++;
+        }
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        key[t] = k;
+        cnt[t] = val;
+        size[t] = val;
+        left[t] = 0;
+        right[t] = 0;
+        pri[t] = seed & Integer.MAX_VALUE;
+        return t;
+    }
+
+    private void release(int t) {
+        left[t] = free;
+        free = t;
+    }
+
+    private void grow() {
+        int capacity = key.length * 2;
+        key = Arrays.copyOf(key, capacity);
+        cnt = Arrays.copyOf(cnt, capacity);
+        size = Arrays.copyOf(size, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        pri = Arrays.copyOf(pri, capacity);
+    }
+}
@@ -0,0 +1,111 @@
+package com.s1kusu.data_structure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.s1kusu.util.MappedLongArray;
+
+/**
+ * ファイルをメモリマップした BinaryIndexedTree.<br>
+ * BIT と同じ操作を提供し、配列をヒープ外（ファイル）に置くため
+ * ヒープに収まらない要素数を扱え、再起動後も再構築せずに開き直せる.<br>
+ * ファイルの先頭の要素（BITでは未使用のindex 0）に要素数を記録する.<br>
+ * 要素のIndexは1-indexed.
+ */
+class MappedBIT implements Closeable {
+
+    private final int n;
+    private final MappedLongArray bit;
+
+    /**
+     * コンストラクタ.<br>
+     * ファイルが存在しない場合は長さ n+1、初期値 0の配列を生成し、存在する場合はその内容を使用する.<br>
+     * 計算量：O(N)（ファイルを新規作成した場合）
+     * @param path 配列を保存するファイル
+     * @param n
+     * @throws IOException ファイルの操作に失敗した場合
+     * @throws IllegalArgumentException 既存のファイルの長さ・要素数がnと異なる場合（ファイルは変更しない）
+     */
+    public MappedBIT(Path path, int n) throws IOException {
+        this.n = n;
+        this.bit = new MappedLongArray(path, n + 1L);
+        if(bit.isCreated()) {
+            bit.set(0, n);
+        }else if(bit.get(0) != n) {
+            long stored = bit.get(0);
+            bit.close();
+            throw new IllegalArgumentException("element count mismatch: expected " + n + " but " + path + " stores " + stored);
+        }
+    }
+
+    /**
+     * i番目の要素にxを加算する.<br>
+     * 計算量：O(logN)
+     * @param i
+     * @param x
+     */
+    public void add(int i, long x){
+        while(i <= n){
+            bit.add(i, x);
+            i += i & -i;
+        }
+    }
+
+    /**
+     * 0～i番目までの要素の総和.<br>
+     * 計算量：O(logN)
+     * @param i
+     */
+    public long sum(int i){
+        long s = 0L;
+        while(0 < i){
+            s += bit.get(i);
+            i -= i & -i;
+        }
+        return s;
+    }
+
+    /**
+     * l～r番目までの要素の総和.<br>
+     * 計算量：O(logN)
+     * @param l
+     * @param r
+     */
+    public long sum(int l, int r) {
+        return sum(r) - sum(l-1);
+    }
+
+    /**
+     * k ≦ sum(x) となる最小のxを求める.<br>
+     * 計算量：O(logN)
+     * @param k
+     * @return
+     */
+    public int lowerBound(long k){
+        if(k <= 0) return 0;
+        int x = 0;
+        int max = 1;
+        while(max < n) max *= 2;
+        for (int i = max; i > 0; i /= 2) {
+            if(x + i <= n && bit.get(x + i) < k){
+                k -= bit.get(x + i);
+                x += i;
+            }
+        }
+        return x + 1;
+    }
+
+    /**
+     * 変更内容をファイルに書き出す.
+     */
+    public void force() {
+        bit.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        bit.close();
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.s1kusu.data_structure;
+
+/**
+ * 区間加算・区間和取得の BinaryIndexedTree.<br>
+ * 長さnの配列に対し以下の操作をO(logN)で行うデータ構造.
+ * <ul>
+ * <li>add ：区間の要素への一律加算</li>
+ * <li>sum：区間の要素の総和</li>
+ * </ul>
+ * 2本のBIT（b0, b1）を持ち、i番目までの総和を sum(b0, i) + sum(b1, i) * i で求める.<br>
+ * 要素のIndexは1-indexed.
+ */
+class RangeBIT {
+
+    private final int n;
+    private final long[] b0;
+    private final long[] b1;
+
+    /**
+     * コンストラクタ.<br>
+     * 長さ n+1、初期値 0の配列を生成する.<br>
+     * 計算量：O(N)
+     * @param n
+     */
+    public RangeBIT(int n){
+        this.n = n;
+        this.b0 = new long[n+1];
+        this.b1 = new long[n+1];
+    }
+
+    /**
+     * コンストラクタ.<br>
+     * a[i-1]をi番目の要素とする長さ n+1 の配列を生成する.<br>
+     * 計算量：O(N)
+     * @param a 初期配列（0-indexed）
+     */
+    public RangeBIT(long[] a){
+        this(a.length);
+        System.arraycopy(a, 0, b0, 1, n);
+        for (int i = 1; i <= n; i++) {
+            int j = i + (i & -i);
+            if(j <= n) b0[j] += b0[i];
+        }
+    }
+
+    /**
+     * l～r番目までの要素にxを加算する.<br>
+     * 計算量：O(logN)
+     * @param l
+     * @param r
+     * @param x
+     */
+    public void add(int l, int r, long x){
+        add(b0, l, -x * (l-1));
+        add(b1, l, x);
+        add(b0, r+1, x * r);
+        add(b1, r+1, -x);
+    }
+
+    /**
+     * i番目の要素にxを加算する.<br>
+     * 計算量：O(logN)
+     * @param i
+     * @param x
+     */
+    public void add(int i, long x){
+        add(b0, i, x);
+    }
+
+    /**
+     * 0～i番目までの要素の総和.<br>
+     * 計算量：O(logN)
+     * @param i
+     */
+    public long sum(int i){
+        return sum(b0, i) + sum(b1, i) * i;
+    }
+
+    /**
+     * l～r番目までの要素の総和.<br>
+     * 計算量：O(logN)
+     * @param l
+     * @param r
+     */
+    public long sum(int l, int r) {
+        return sum(r) - sum(l-1);
+    }
+
+    private void add(long[] bit, int i, long x){
+        while(i <= n){
+            bit[i] += x;
+            i += i & -i;
+        }
+    }
+
+    private long sum(long[] bit, int i){
+        long s = 0L;
+        while(0 < i){
+            s += bit[i];
+            i -= i & -i;
+        }
+        return s;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.s1kusu.data_structure;
+
+import java.util.Arrays;
+
+/**
+ * Undo可能な Disjoint Set (UnionFindTree).<br>
+ * 経路圧縮をせずunion by sizeのみを行い、合併の履歴を配列に積んで新しい順に取り消せるようにする.<br>
+ * 履歴はunionの呼び出しごとに1件積む（合併しなかった場合も積む）.
+ */
+public class RollbackDJSet {
+    /** 履歴配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * 各要素の親を保持する配列.<br>
+     * 自身が根である要素は負の数を持つ.
+     * （負の数の場合、絶対値がその集合の要素数）
+     */
+    private final int[] par;
+    /** 集合の数 */
+    private int sets;
+    /** 履歴：合併先のroot（合併しなかった場合は-1） */
+    private int[] histX;
+    /** 履歴：合併されたroot */
+    private int[] histY;
+    /** 履歴：合併されたrootの合併前の値 */
+    private int[] histParY;
+    /** 履歴の件数 */
+    private int top;
+
+    /**
+     * 自身をrootとする(各要素が互いに素である)要素数Nの集合を生成する.<br>
+     * 計算量：O(N)
+     * @param n 対象となる要素数
+     */
+    public RollbackDJSet(int n){
+        this.par = new int[n];
+        Arrays.fill(par, -1);
+        this.sets = n;
+        this.histX = new int[INITIAL_CAPACITY];
+        this.histY = new int[INITIAL_CAPACITY];
+        this.histParY = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * 要素xが含まれる集合のrootを求める.<br>
+     * 経路圧縮はしない.<br>
+     * 計算量：O(logN)
+     * @param x 要素x
+     * @return 要素xが含まれる集合のroot
+     */
+    public int root(int x){
+        while(0 <= par[x]) x = par[x];
+        return x;
+    }
+
+    /**
+     * 要素xと要素yを含むそれぞれの集合を合併し、履歴を1件積む.<br>
+     * 要素数の多い集合のrootを残し、少ないほうのrootをその下に合併する.<br>
+     * 計算量：O(logN)
+     * @param x 要素x
+     * @param y 要素y
+     * @return 要素xと要素yを含むそれぞれの集合を合併できたらtrue、もともと同じ集合で合併しなかったらfalseを返す。
+     */
+    public boolean union(int x, int y){
+        x = root(x);
+        y = root(y);
+        if(top == histX.length) {
+            int capacity = top * 2;
+            histX = Arrays.copyOf(histX, capacity);
+            histY = Arrays.copyOf(histY, capacity);
+            histParY = Arrays.copyOf(histParY, capacity);
+        }
+        if(x == y) {
+            histX[top++] = -1;
+            return false;
+        }
+        if(par[y] < par[x]){
+            int t = x;
+            x = y;
+            y = t;
+        }
+        histX[top] = x;
+        histY[top] = y;
+        histParY[top] = par[y];
+        top++;
+        par[x] += par[y];
+        par[y] = x;
+        sets--;
+        return true;
+    }
+
+    /**
+     * 直前のunionを1件取り消す.<br>
+     * 計算量：O(1)
+     * @return 取り消したunionで合併が行われていればtrue
+     */
+    public boolean undo(){
+        if(top == 0) throw new IllegalStateException("no history");
+        top--;
+        int x = histX[top];
+        if(x < 0) return false;
+        int y = histY[top];
+        par[y] = histParY[top];
+        par[x] -= par[y];
+        sets++;
+        return true;
+    }
+
+    /**
+     * 履歴の件数がtになるまでunionを取り消す.<br>
+     * 計算量：O(取り消す件数)
+     * @param t history()で取得した履歴の件数
+     */
+    public void rollback(int t){
+        while(t < top) undo();
+    }
+
+    /**
+     * 現在の履歴の件数を取得する.<br>
+     * 計算量：O(1)
+     * @return 履歴の件数
+     */
+    public int history(){
+        return top;
+    }
+
+    /**
+     * 要素xと要素yが同じ集合か判定する.<br>
+     * 計算量：O(logN)
+     * @param x 要素x
+     * @param y 要素y
+     * @return 要素xと要素yが同じ集合であればtrue、そうでなければfalseを返す。
+     */
+    public boolean same(int x, int y){
+        return root(x) == root(y);
+    }
+
+    /**
+     * 集合の数を数える.<br>
+     * 計算量：O(1)
+     * @return 集合の数
+     */
+    public int countSet(){
+        return sets;
+    }
+
+    /**
+     * 要素ｘが含まれる集合の要素数を数える.<br>
+     * 計算量：O(logN)
+     * @param x 要素ｘ
+     * @return 要素ｘが含まれる集合の要素数
+     */
+    public int countElement(int x){
+        return par[root(x)] * -1;
+    }
+}
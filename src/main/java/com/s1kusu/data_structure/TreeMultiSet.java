@@ -5,14 +5,84 @@ import java.util.*;
 class TreeMultiSet<K> extends TreeMap<K, Long> {
 
     public long update(K key, long val){
-        if(!contains(key)){
-            put(key, val);
-            return val;
+        return nvl(merge(key, val, (a, b) -> a + b == 0 ? null : a + b));
+    }
+
+    /**
+     * 昇順に並んだ配列から多重集合を生成する.<br>
+     * 等しいキーをまとめてから木を構築する.<br>
+     * 計算量：O(N)
+     * @param keys 昇順に並んだキーの配列
+     * @return 生成した多重集合
+     * @throws IllegalArgumentException keysが昇順に並んでいない場合
+     */
+    public static TreeMultiSet<Long> fromSorted(long[] keys){
+        Long[] boxed = new Long[keys.length];
+        for (int i = 0; i < keys.length; i++) boxed[i] = keys[i];
+        return fromSorted(boxed);
+    }
+
+    /**
+     * 昇順に並んだ配列から多重集合を生成する.<br>
+     * 等しいキーをまとめてから木を構築する.<br>
+     * 計算量：O(N)
+     * @param keys 昇順に並んだキーの配列
+     * @return 生成した多重集合
+     * @throws IllegalArgumentException keysが昇順に並んでいない場合
+     */
+    public static <K> TreeMultiSet<K> fromSorted(K[] keys){
+        TreeMultiSet<K> set = new TreeMultiSet<>();
+        set.addAll(keys);
+        return set;
+    }
+
+    /**
+     * 昇順に並んだ配列の要素を全て追加する.<br>
+     * 既存の要素と線形時間でマージしてから木を再構築する.<br>
+     * 計算量：O(N + M) （Mは追加する要素数）
+     * @param keys 昇順に並んだキーの配列
+     * @throws IllegalArgumentException keysが昇順に並んでいない場合（多重集合は変更しない）
+     */
+    public void addAll(K[] keys){
+        SortedRun<K> run = new SortedRun<>(comparator(), keys.length);
+        for(K key : keys) run.add(key, 1);
+        if(isEmpty()) {
+            putAll(run);
+            return;
         }
-        long result = get(key) + val;
-        if(result == 0) remove(key);
-        else put(key, result);
-        return result;
+        merge(run);
+    }
+
+    /**
+     * 別の多重集合の要素を全て追加する.<br>
+     * 両者を線形時間でマージしてから木を再構築する.<br>
+     * 計算量：O(N + M) （Mはotherのキーの種類数）
+     * @param other 追加する多重集合（同じ順序で並んでいること）
+     */
+    public void merge(TreeMultiSet<K> other){
+        SortedRun<K> run = new SortedRun<>(comparator(), other.size());
+        for(Map.Entry<K, Long> e : other.entrySet()) run.add(e.getKey(), e.getValue());
+        merge(run);
+    }
+
+    private void merge(SortedRun<K> run){
+        SortedRun<K> merged = new SortedRun<>(comparator(), size() + run.size());
+        Iterator<Map.Entry<K, Long>> it = entrySet().iterator();
+        Map.Entry<K, Long> cur = it.hasNext() ? it.next() : null;
+        for (int i = 0; i < run.size(); i++) {
+            while(cur != null && run.compare(cur.getKey(), run.key(i)) < 0) {
+                merged.add(cur.getKey(), cur.getValue());
+                cur = it.hasNext() ? it.next() : null;
+            }
+            merged.add(run.key(i), run.count(i));
+        }
+        while(cur != null) {
+            merged.add(cur.getKey(), cur.getValue());
+            cur = it.hasNext() ? it.next() : null;
+        }
+        merged.removeZero();
+        clear();
+        putAll(merged);
     }
 
     public long push(K key){
@@ -53,7 +123,7 @@ class TreeMultiSet<K> extends TreeMap<K, Long> {
     }
 
     public K lower(K key){
-        return lower(key);
+        return lowerKey(key);
     }
 
     public K pushFirst(){
@@ -84,4 +154,163 @@ class TreeMultiSet<K> extends TreeMap<K, Long> {
     private long nvl(Long val){
         return val == null ? 0L : val;
     }
+
+    /**
+     * 等しいキーをまとめた昇順の列（読み取り専用のSortedMap）.<br>
+     * 空のTreeMapのputAllにSortedMapとして渡すと、TreeMapは要素を昇順に受け取り線形時間で木を構築する.
+     * この最適化が使われない実装でも、通常のputAllとして正しく動作する.
+     */
+    private static class SortedRun<K> extends AbstractMap<K, Long> implements SortedMap<K, Long> {
+
+        private final Comparator<? super K> comparator;
+        private final Object[] keys;
+        private final long[] counts;
+        /** この列の先頭のindex（部分列の場合は0以外） */
+        private final int from;
+        /** この列の要素数 */
+        private int size;
+
+        SortedRun(Comparator<? super K> comparator, int capacity){
+            this(comparator, new Object[capacity], new long[capacity], 0, 0);
+        }
+
+        private SortedRun(Comparator<? super K> comparator, Object[] keys, long[] counts, int from, int size){
+            this.comparator = comparator;
+            this.keys = keys;
+            this.counts = counts;
+            this.from = from;
+            this.size = size;
+        }
+
+        /**
+         * キーを末尾に追加する（直前のキーと等しい場合は個数をまとめる）.<br>
+         * 部分列ではなく、コンストラクタで生成した列に対してのみ使用する.
+         * @throws IllegalArgumentException 直前のキーより小さいキーを追加した場合
+         */
+        void add(K key, long count){
+            if(0 < size) {
+                int c = compare(keys[size-1], key);
+                if(0 < c) throw new IllegalArgumentException("keys are not sorted: " + key + " after " + keys[size-1]);
+                if(c == 0) {
+                    counts[size-1] += count;
+                    return;
+                }
+            }
+            keys[size] = key;
+            counts[size] = count;
+            size++;
+        }
+
+        /** 個数が0になったキーを取り除く */
+        void removeZero(){
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if(counts[i] == 0) continue;
+                keys[n] = keys[i];
+                counts[n] = counts[i];
+                n++;
+            }
+            for (int i = n; i < size; i++) keys[i] = null;
+            size = n;
+        }
+
+        @SuppressWarnings("unchecked")
+        K key(int i){
+            return (K)keys[from + i];
+        }
+
+        long count(int i){
+            return counts[from + i];
+        }
+
+        @SuppressWarnings("unchecked")
+        int compare(Object a, Object b){
+            return comparator == null
+                    ? ((Comparable<? super K>)a).compareTo((K)b)
+                    : comparator.compare((K)a, (K)b);
+        }
+
+        /** key以上の最初のキーのindex */
+        private int lowerBound(K key){
+            int lo = 0, hi = size;
+            while(lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if(compare(keys[from + mid], key) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        private SortedRun<K> range(int lo, int hi){
+            return new SortedRun<>(comparator, keys, counts, from + lo, hi - lo);
+        }
+
+        @Override
+        public Set<Map.Entry<K, Long>> entrySet(){
+            return new AbstractSet<Map.Entry<K, Long>>() {
+                @Override
+                public Iterator<Map.Entry<K, Long>> iterator(){
+                    return new Iterator<Map.Entry<K, Long>>() {
+                        private int i = 0;
+
+                        @Override
+                        public boolean hasNext(){
+                            return i < size;
+                        }
+
+                        @Override
+                        public Map.Entry<K, Long> next(){
+                            if(size <= i) throw new NoSuchElementException();
+                            Map.Entry<K, Long> e = new AbstractMap.SimpleImmutableEntry<>(key(i), count(i));
+                            i++;
+                            return e;
+                        }
+                    };
+                }
+
+                @Override
+                public int size(){
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public int size(){
+            return size;
+        }
+
+        @Override
+        public Comparator<? super K> comparator(){
+            return comparator;
+        }
+
+        @Override
+        public SortedMap<K, Long> subMap(K fromKey, K toKey){
+            if(0 < compare(fromKey, toKey)) throw new IllegalArgumentException("fromKey > toKey");
+            return range(lowerBound(fromKey), lowerBound(toKey));
+        }
+
+        @Override
+        public SortedMap<K, Long> headMap(K toKey){
+            return range(0, lowerBound(toKey));
+        }
+
+        @Override
+        public SortedMap<K, Long> tailMap(K fromKey){
+            return range(lowerBound(fromKey), size);
+        }
+
+        @Override
+        public K firstKey(){
+            if(size == 0) throw new NoSuchElementException();
+            return key(0);
+        }
+
+        @Override
+        public K lastKey(){
+            if(size == 0) throw new NoSuchElementException();
+            return key(size - 1);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package com.s1kusu.data_structure;
+
+import java.util.Arrays;
+
+/**
+ * 重み付き Disjoint Set (ポテンシャル付き UnionFindTree).<br>
+ * 各要素にポテンシャルx_iを持たせ、「x_b - x_a = w」という制約を合併しながら矛盾がないか判定する.
+ */
+public class WeightedDJSet {
+    /**
+     * 各要素の親を保持する配列.<br>
+     * 自身が根である要素は負の数を持つ.
+     * （負の数の場合、絶対値がその集合の要素数）
+     */
+    private final int[] par;
+    /** 親に対するポテンシャル（x_i - x_par[i]） */
+    private final long[] weight;
+    /** 経路圧縮で辿った要素を積むスタック */
+    private final int[] stack;
+
+    /**
+     * 自身をrootとする(各要素が互いに素である)要素数Nの集合を生成する.<br>
+     * 計算量：O(N)
+     * @param n 対象となる要素数
+     */
+    public WeightedDJSet(int n){
+        this.par = new int[n];
+        this.weight = new long[n];
+        this.stack = new int[n];
+        Arrays.fill(par, -1);
+    }
+
+    /**
+     * 要素xが含まれる集合のrootを求める.<br>
+     * 辿った要素を全てrootの直下に付け替え、ポテンシャルをroot基準に更新する.<br>
+     * 計算量：O(α(N))
+     * @param x 要素x
+     * @return 要素xが含まれる集合のroot
+     */
+    public int root(int x){
+        int top = 0;
+        while(0 <= par[x]){
+            stack[top++] = x;
+            x = par[x];
+        }
+        // rootに近い要素から順にroot基準のポテンシャルにする
+        for (int i = top - 2; 0 <= i; i--) {
+            int y = stack[i];
+            weight[y] += weight[par[y]];
+            par[y] = x;
+        }
+        return x;
+    }
+
+    /**
+     * 要素xのポテンシャルを、xが含まれる集合のrootを基準として求める.<br>
+     * 計算量：O(α(N))
+     * @param x 要素x
+     * @return x_x - x_root
+     */
+    public long weight(int x){
+        root(x);
+        return weight[x];
+    }
+
+    /**
+     * 「x_b - x_a = w」という制約を追加し、要素aと要素bを含むそれぞれの集合を合併する.<br>
+     * 要素数の多い集合のrootを残し、少ないほうのrootをその下に合併する.<br>
+     * 計算量：O(α(N))
+     * @param a 要素a
+     * @param b 要素b
+     * @param w x_b - x_a の値
+     * @return 既存の制約と矛盾しなければtrue、矛盾すればfalseを返す（矛盾する場合は何も変更しない）。
+     */
+    public boolean union(int a, int b, long w){
+        int x = root(a), y = root(b);
+        // x_y - x_x
+        long d = w + weight[a] - weight[b];
+        if(x == y) return d == 0;
+        if(par[y] < par[x]){
+            int t = x;
+            x = y;
+            y = t;
+            d = -d;
+        }
+        par[x] += par[y];
+        par[y] = x;
+        weight[y] = d;
+        return true;
+    }
+
+    /**
+     * x_b - x_a を求める.<br>
+     * 計算量：O(α(N))
+     * @param a 要素a
+     * @param b 要素b
+     * @return x_b - x_a
+     * @throws IllegalArgumentException 要素aと要素bが同じ集合でない場合
+     */
+    public long diff(int a, int b){
+        if(root(a) != root(b)) throw new IllegalArgumentException(a + " and " + b + " are not in the same set");
+        return weight[b] - weight[a];
+    }
+
+    /**
+     * 要素xと要素yが同じ集合か判定する.<br>
+     * 計算量：O(α(N))
+     * @param x 要素x
+     * @param y 要素y
+     * @return 要素xと要素yが同じ集合であればtrue、そうでなければfalseを返す。
+     */
+    public boolean same(int x, int y){
+        return root(x) == root(y);
+    }
+
+    /**
+     * 集合の数を数える.<br>
+     * 計算量：O(N)
+     * @return 集合の数
+     */
+    public int countSet(){
+        int c = 0;
+        for(int u :par){
+            if(u < 0) c++;
+        }
+        return c;
+    }
+
+    /**
+     * 要素ｘが含まれる集合の要素数を数える.<br>
+     * 計算量：O(α(N))
+     * @param x 要素ｘ
+     * @return 要素ｘが含まれる集合の要素数
+     */
+    public int countElement(int x){
+        return par[root(x)] * -1;
+    }
+}
@@ -0,0 +1,191 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * スレッドセーフな Segment Tree (long特殊化版).<br>
+ * 更新は書き込みロックで排他し、取得は楽観的読み取り（StampedLock）で行う.<br>
+ * 取得同士は互いにブロックせず、読み取り中に更新が行われた場合のみ読み取りロックを取り直す.<br>
+ * 楽観的読み取り中はmaxRight/minLeftの判定条件に更新途中の値が渡されることがあるが、その結果は返却されない.<br>
+ * (0-indexed)
+ */
+class ConcurrentLongSegTree {
+
+    private final LongSegTree TREE;
+    private final StampedLock LOCK = new StampedLock();
+
+    /**
+     * 全てのノードを単位元で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param n 要素数
+     * @param e 単位元
+     * @param op 演算
+     */
+    public ConcurrentLongSegTree(int n, long e, LongBinaryOperator op){
+        this.TREE = new LongSegTree(n, e, op);
+    }
+
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @param e 単位元
+     * @param op 演算
+     */
+    public ConcurrentLongSegTree(long[] a, long e, LongBinaryOperator op){
+        this.TREE = new LongSegTree(a, e, op);
+    }
+
+    /**
+     * k番目の要素を取得する.<br>
+     * 計算量：O(1)
+     * @param k
+     * @return k番目の要素の値
+     */
+    public long get(int k) {
+        long stamp = LOCK.tryOptimisticRead();
+        long ret = TREE.get(k);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.get(k);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * k番目（0-indexed）の要素をaに更新する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     */
+    public void set(int k, long v){
+        long stamp = LOCK.writeLock();
+        try {
+            TREE.set(k, v);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * indices[i]番目（0-indexed）の要素をvalues[i]に一括で更新する.<br>
+     * 計算量：O(K logK + K log(N/K)) （Kは更新する要素数）
+     * @param indices 変更対象要素のindex（0-indexed）の配列
+     * @param values 変更後の値の配列
+     */
+    public void setAll(int[] indices, long[] values){
+        long stamp = LOCK.writeLock();
+        try {
+            TREE.setAll(indices, values);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 区間[l, r)の結果を取得する.<br>
+     * 計算量：O(logN)
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[a, b)の結果
+     */
+    public long query(int l, int r){
+        long stamp = LOCK.tryOptimisticRead();
+        long ret = TREE.query(l, r);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.query(l, r);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める.<br>
+     * @param l 対象範囲下限
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, LongPredicate pr) {
+        long stamp = LOCK.tryOptimisticRead();
+        int ret = TREE.maxRight(l, pr);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.maxRight(l, pr);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * [l, r)の範囲において
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める.<br>
+     * @param l 対象範囲下限（含む）
+     * @param r 対象範囲上限（含まない）
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, int r, LongPredicate pr) {
+        long stamp = LOCK.tryOptimisticRead();
+        int ret = TREE.maxRight(l, r, pr);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.maxRight(l, r, pr);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param r 対象範囲上限
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int r, LongPredicate pr) {
+        long stamp = LOCK.tryOptimisticRead();
+        int ret = TREE.minLeft(r, pr);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.minLeft(r, pr);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * [l, r)の範囲において
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param l 対象範囲下限（含む）
+     * @param r 対象範囲上限（含まない）
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int l, int r, LongPredicate pr) {
+        long stamp = LOCK.tryOptimisticRead();
+        int ret = TREE.minLeft(l, r, pr);
+        if(LOCK.validate(stamp)) return ret;
+        stamp = LOCK.readLock();
+        try {
+            return TREE.minLeft(l, r, pr);
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 動的 Lazy Segment Tree (long特殊化版).<br>
+ * 区間[lo, hi)のlong値のindexを扱い、ノードは初めて参照されたときに生成する.<br>
+ * 座標圧縮をせずに10^18程度までのindexを扱え、メモリ使用量は操作回数に比例する.<br>
+ * ノードはオブジェクトではなく、拡張可能な配列で管理する.<br>
+ * 生成されていないノード以下の要素は全て単位元として扱う.
+ */
+class DynamicLazySegTree {
+
+    /** 配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 16;
+    /** 1ノードあたりのバイト数（left, right, data, lazy） */
+    private static final int BYTES_PER_NODE = 4 + 4 + 8 + 8;
+
+    /** 対象区間の下限（含む） */
+    private final long LO;
+    /** 対象区間の上限（含まない） */
+    private final long HI;
+    /** データの単位元 */
+    private final long E;
+    /** クエリ結果を求める関数 */
+    private final LongBinaryOperator OP;
+    /** 遅延評価の単位元 */
+    private final long ID;
+    /** 遅延分をデータに適用する関数 */
+    private final LongLazySegTree.Mapping MAPPING;
+    /** 遅延分を合成する関数 */
+    private final LongLazySegTree.Composition COMPOSITION;
+
+    /**
+     * ノードの左の子のindex.<br>
+     * index 0 は未生成のノードを表し、値は単位元とする.<br>
+     * 根のindex：1.
+     */
+    private int[] left;
+    /** ノードの右の子のindex */
+    private int[] right;
+    /** データ配列 */
+    private long[] data;
+    /** 遅延評価配列 */
+    private long[] lazy;
+    /** 使用済みのノード数 */
+    private int nodeCount;
+
+    /**
+     * 区間[lo, hi)の全ての要素を単位元で初期化するコンストラクタ.<br>
+     * 計算量：O(1)
+     * @param lo 対象区間の下限（含む）
+     * @param hi 対象区間の上限（含まない）
+     * @param e
+     * @param op
+     * @param id
+     * @param mapping
+     * @param composition
+     */
+    public DynamicLazySegTree(long lo, long hi, long e, LongBinaryOperator op, long id,
+            LongLazySegTree.Mapping mapping, LongLazySegTree.Composition composition){
+        this.LO = lo;
+        this.HI = hi;
+        this.E = e;
+        this.OP = op;
+        this.ID = id;
+        this.MAPPING = mapping;
+        this.COMPOSITION = composition;
+        this.left = new int[INITIAL_CAPACITY];
+        this.right = new int[INITIAL_CAPACITY];
+        this.data = new long[INITIAL_CAPACITY];
+        this.lazy = new long[INITIAL_CAPACITY];
+        data[0] = E;
+        lazy[0] = ID;
+        nodeCount = 1;
+        newNode();
+    }
+
+    /**
+     * 区間加算・区間和取得の動的Lazy Segment Treeを生成する.<br>
+     * 計算量：O(1)
+     * @param lo 対象区間の下限（含む）
+     * @param hi 対象区間の上限（含まない）
+     * @return apply(l, r, x)で区間[l, r)にxを加算する動的Lazy Segment Tree
+     */
+    public static DynamicLazySegTree rangeAddRangeSum(long lo, long hi) {
+        return new DynamicLazySegTree(lo, hi, 0L, Long::sum, 0L,
+                (x, f, len) -> x + f * len,
+                (f, g) -> f + g);
+    }
+
+    /**
+     * k番目の要素を取得する.<br>
+     * 計算量：O(log(hi-lo))
+     * @param k
+     * @return k番目の要素の値
+     */
+    public long get(long k) {
+        return prod(k, k+1);
+    }
+
+    /**
+     * k番目の要素をvに更新する.<br>
+     * 計算量：O(log(hi-lo))
+     * @param k 変更対象要素のindex
+     * @param v 変更後の値
+     */
+    public void set(long k, long v){
+        set(1, LO, HI, k, v);
+    }
+
+    private void set(int k, long lo, long hi, long p, long v) {
+        if(hi - lo == 1) {
+            data[k] = v;
+            return;
+        }
+        push(k, lo, hi);
+        long mid = lo + (hi - lo) / 2;
+        if(p < mid) {
+            set(leftChild(k), lo, mid, p, v);
+        }else {
+            set(rightChild(k), mid, hi, p, v);
+        }
+        update(k);
+    }
+
+    /**
+     * 区間[l, r)に s を適用する.<br>
+     * 計算量：O(log(hi-lo))
+     * @param l 最終的に適用する区間の下限（含む）
+     * @param r 最終的に適用する区間上限（含まない）
+     * @param s 更新処理
+     */
+    public void apply(long l, long r, long s) {
+        if(l < r) apply(1, LO, HI, l, r, s);
+    }
+
+    private void apply(int k, long lo, long hi, long l, long r, long s) {
+        if(l <= lo && hi <= r) {
+            allApply(k, s, hi - lo);
+            return;
+        }
+        push(k, lo, hi);
+        long mid = lo + (hi - lo) / 2;
+        if(l < mid) apply(leftChild(k), lo, mid, l, r, s);
+        if(mid < r) apply(rightChild(k), mid, hi, l, r, s);
+        update(k);
+    }
+
+    /**
+     * 区間[l, r)の結果を求める.<br>
+     * 計算量：O(log(hi-lo))
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[l, r)の結果
+     */
+    public long prod(long l, long r){
+        if(r <= l) return E;
+        return prod(1, LO, HI, l, r);
+    }
+
+    private long prod(int k, long lo, long hi, long l, long r) {
+        if(k == 0) return E;
+        if(l <= lo && hi <= r) return data[k];
+        push(k, lo, hi);
+        long mid = lo + (hi - lo) / 2;
+        long vl = l < mid ? prod(left[k], lo, mid, l, r) : E;
+        long vr = mid < r ? prod(right[k], mid, hi, l, r) : E;
+        return OP.applyAsLong(vl, vr);
+    }
+
+    /**
+     * 全区間[lo, hi)の結果を求める.<br>
+     * 計算量：O(1)
+     * @return 区間[lo, hi)の結果
+     */
+    public long allProd() {
+        return data[1];
+    }
+
+    /**
+     * 生成済みのノード数を取得する.<br>
+     * 計算量：O(1)
+     * @return ノード数
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * ノードを保持する配列が確保しているメモリ量を取得する.<br>
+     * 計算量：O(1)
+     * @return 確保済みのバイト数
+     */
+    public long memoryUsage() {
+        return (long)left.length * BYTES_PER_NODE;
+    }
+
+    /**
+     * ノードkの遅延分を子ノードに伝播する.<br>
+     * 子ノードが未生成の場合は生成する.
+     * @param k ノードのindex
+     * @param lo ノードの下限（含む）
+     * @param hi ノードの上限（含まない）
+     */
+    private void push(int k, long lo, long hi) {
+        if(lazy[k] == ID) return;
+        long mid = lo + (hi - lo) / 2;
+        allApply(leftChild(k), lazy[k], mid - lo);
+        allApply(rightChild(k), lazy[k], hi - mid);
+        lazy[k] = ID;
+    }
+
+    private void allApply(int k, long s, long len) {
+        data[k] = MAPPING.apply(data[k], s, len);
+        if(1 < len) lazy[k] = COMPOSITION.apply(lazy[k], s);
+    }
+
+    private void update(int k) {
+        data[k] = OP.applyAsLong(data[left[k]], data[right[k]]);
+    }
+
+    private int leftChild(int k) {
+        if(left[k] == 0) {
+            int c = newNode();
+            left[k] = c;
+        }
+        return left[k];
+    }
+
+    private int rightChild(int k) {
+        if(right[k] == 0) {
+            int c = newNode();
+            right[k] = c;
+        }
+        return right[k];
+    }
+
+    private int newNode() {
+        if(nodeCount == left.length) {
+            int capacity = left.length * 2;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            data = Arrays.copyOf(data, capacity);
+            lazy = Arrays.copyOf(lazy, capacity);
+        }
+        data[nodeCount] = E;
+        lazy[nodeCount] = ID;
+        return nodeCount++;
+    }
+}
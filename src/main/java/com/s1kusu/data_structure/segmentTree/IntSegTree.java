@@ -0,0 +1,250 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+
+/**
+ * Segment Tree (int特殊化版).<br>
+ * 要素をint[]で保持し、演算時にボクシングを行わない.<br>
+ * (0-indexed)
+ */
+class IntSegTree {
+
+    /** 要素数 */
+    private final int N;
+    /** nより大きい最小の2の累乗数 */
+    private final int SIZE;
+    /** 単位元 */
+    private final int E;
+    /** クエリ結果を求める関数 */
+    private final IntBinaryOperator OP;
+    /**
+     * 要素全体を含むノードのindex：1.
+     * k番目(0-indexed)の要素のindex：k + size
+     * ノードkの親要素のindex：k/2.
+     * ノードkの子要素のうち左側のindex：k*2.
+     * ノードkの子要素のうち右側のindex：k*2+1.
+     */
+    private final int[] DATA;
+
+    /**
+     * 全てのノードを単位元で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param n 要素数
+     * @param e 単位元
+     * @param op 演算
+     */
+    public IntSegTree(int n, int e, IntBinaryOperator op){
+        int tmpSize = 1;
+        while(tmpSize < n) tmpSize *= 2;
+        this.N = n;
+        this.SIZE = tmpSize;
+        this.E = e;
+        this.OP = op;
+        this.DATA = new int[SIZE*2];
+        Arrays.fill(DATA, e);
+    }
+
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @param e 単位元
+     * @param op 演算
+     */
+    public IntSegTree(int[] a, int e, IntBinaryOperator op){
+        int tmpSize = 1;
+        while(tmpSize < a.length) tmpSize *= 2;
+        this.N = a.length;
+        this.SIZE = tmpSize;
+        this.E = e;
+        this.OP = op;
+        this.DATA = new int[SIZE*2];
+        Arrays.fill(DATA, e);
+        System.arraycopy(a, 0, DATA, SIZE, N);
+        for (int i = SIZE-1; i > 0; i--) update(i);
+    }
+
+    /**
+     * k番目の要素を取得する.<br>
+     * 計算量：O(1)
+     * @param k
+     * @return k番目の要素の値
+     */
+    public int get(int k) {
+        return DATA[k + SIZE];
+    }
+
+    /**
+     * k番目（0-indexed）の要素をaに更新する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     */
+    public void set(int k, int v){
+        k += SIZE;
+        DATA[k] = v;
+        while(0 < k){
+            k >>= 1;
+            update(k);
+        }
+    }
+
+    /**
+     * indices[i]番目（0-indexed）の要素をvalues[i]に一括で更新する.<br>
+     * 同じindexが複数回指定された場合は後の値が優先される.<br>
+     * 更新対象の祖先ノードは階層ごとに重複を除いて1回ずつ再計算する.<br>
+     * 計算量：O(K logK + K log(N/K)) （Kは更新する要素数）
+     * @param indices 変更対象要素のindex（0-indexed）の配列
+     * @param values 変更後の値の配列
+     */
+    public void setAll(int[] indices, int[] values){
+        int m = indices.length;
+        if(m == 0) return;
+        int[] nodes = new int[m];
+        for (int i = 0; i < m; i++) {
+            nodes[i] = indices[i] + SIZE;
+            DATA[nodes[i]] = values[i];
+        }
+        Arrays.sort(nodes);
+        while(1 < nodes[0]) {
+            int cnt = 0;
+            for (int i = 0; i < m; i++) {
+                int p = nodes[i] >> 1;
+                if(cnt == 0 || nodes[cnt-1] != p) nodes[cnt++] = p;
+            }
+            m = cnt;
+            for (int i = 0; i < m; i++) update(nodes[i]);
+        }
+    }
+
+    /**
+     * ノードkに演算を適用する.<br>
+     * 計算量：O(1)
+     * @param k
+     */
+    private void update(int k) {
+        DATA[k] = OP.applyAsInt(DATA[k*2], DATA[k*2+1]);
+    }
+
+    /**
+     * 区間[l, r)の結果を取得する.<br>
+     * 計算量：O(logN)
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[a, b)の結果
+     */
+    public int query(int l, int r){
+        int sml = E, smr = E;
+        l += SIZE;
+        r += SIZE;
+        while(l < r) {
+            if((l & 1) == 1) sml = OP.applyAsInt(sml, DATA[l++]);
+            if((r & 1) == 1) smr = OP.applyAsInt(DATA[--r], smr);
+            l >>= 1;
+            r >>= 1;
+        }
+        return OP.applyAsInt(sml, smr);
+    }
+
+    /**
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める.<br>
+     * @param l 対象範囲下限
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, IntPredicate pr) {
+        return maxRight(l, N, pr);
+    }
+
+    /**
+     * [l, r)の範囲において
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める.<br>
+     * @param l 対象範囲下限（含む）
+     * @param r 対象範囲上限（含まない）
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, int r, IntPredicate pr) {
+        int idx = l + SIZE;
+        int li = l, ri = l, width = 1;
+        int applied = E;
+        while(ri < SIZE) {
+            int tmp = OP.applyAsInt(applied, DATA[idx]);
+            if(ri < r && pr.test(tmp)) {
+                applied = tmp;
+                if((idx&1) == 0) {
+                    idx++;
+                }else {
+                    idx = idx/2 +1;
+                    width *= 2;
+                }
+                li = ri + 1;
+                ri = li + width -1;
+            }else {
+                if(SIZE <= idx) {
+                    return li;
+                }
+                idx = idx*2;
+                width /= 2;
+                ri -= width;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param r 対象範囲上限
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int r, IntPredicate pr) {
+        return minLeft(0, r, pr);
+    }
+
+    /**
+     * [l, r)の範囲において
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param l 対象範囲下限（含む）
+     * @param r 対象範囲上限（含まない）
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int l, int r, IntPredicate pr) {
+        int idx = r - 1 + SIZE;
+        int li = r - 1, ri = r - 1, width = 1;
+        int applied = E;
+        while(0 <= li) {
+            int tmp = OP.applyAsInt(DATA[idx], applied);
+            if(l <= li && pr.test(tmp)) {
+                applied = tmp;
+                if((idx&1) == 1) {
+                    idx--;
+                }else {
+                    idx = idx/2 -1;
+                    width *= 2;
+                }
+                ri = li - 1;
+                li = ri - width + 1;
+            }else {
+                if(SIZE <= idx) {
+                    return ri + 1;
+                }
+                idx = idx*2 + 1;
+                width /= 2;
+                li += width;
+            }
+        }
+        return l;
+    }
+}
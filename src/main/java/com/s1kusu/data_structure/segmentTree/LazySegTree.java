@@ -1,8 +1,11 @@
 package com.s1kusu.data_structure.segmentTree;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -11,6 +14,9 @@ import java.util.function.Supplier;
  */
 class LazySegTree<T, S> {
 
+    /** 並列構築時、葉の数がこの値以下の部分木は逐次的に構築する */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     /** 要素数 */
     private final int N;
     /** Nより大きい最小の2の累乗数 */
@@ -105,6 +111,43 @@ class LazySegTree<T, S> {
         for (int i = SIZE-1; i > 0; i--) update(i);
     }
 
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ（並列構築）.<br>
+     * 互いに素な部分木ごとにpool上で葉の設定・ノードの計算を行う.<br>
+     * 計算量：O(N)
+     * @param a
+     * @param et
+     * @param op
+     * @param es
+     * @param mapping
+     * @param composition
+     * @param pool 構築に使用するスレッドプール
+     */
+    @SuppressWarnings("unchecked")
+    public LazySegTree(T[] a, Supplier<T> et, BinaryOperator<T> op, Supplier<S> es,
+            BiFunction<T, S, T> mapping, BinaryOperator<S> composition, ForkJoinPool pool){
+        int tmpSize = 1, tmpLog = 0;
+        while(tmpSize < a.length) {
+            tmpLog++;
+            tmpSize *= 2;
+        }
+        this.N = a.length;
+        this.SIZE = tmpSize;
+        this.LOG = tmpLog;
+        this.DATA = (T[]) new Object[SIZE*2];
+        this.LAZY = (S[]) new Object[SIZE*2];
+        this.ET = et;
+        this.OP = op;
+        this.ES = es;
+        this.MAPPING = mapping;
+        this.COMPOSITION = composition;
+        T e = ET.get();
+        S id = ES.get();
+        DATA[0] = e;
+        LAZY[0] = id;
+        pool.invoke(new Build(1, LOG, a, e, id));
+    }
+
     /**
      * k番目の要素を取得する.<br>
      * 計算量：O(logN)
@@ -216,6 +259,74 @@ class LazySegTree<T, S> {
         return DATA[1];
     }
 
+    /**
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める（pr(単位元) = true であること）.<br>
+     * 探索の経路上のノードのみ遅延分を伝播する.<br>
+     * 計算量：O(logN)
+     * @param l 対象範囲下限
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, Predicate<T> pr) {
+        if(l == N) return N;
+        l += SIZE;
+        for (int i = LOG; i >= 1; i--) push(l >> i);
+        T sm = ET.get();
+        do {
+            while((l & 1) == 0) l >>= 1;
+            if(!pr.test(OP.apply(sm, DATA[l]))) {
+                while(l < SIZE) {
+                    push(l);
+                    l = 2*l;
+                    if(pr.test(OP.apply(sm, DATA[l]))) {
+                        sm = OP.apply(sm, DATA[l]);
+                        l++;
+                    }
+                }
+                return l - SIZE;
+            }
+            sm = OP.apply(sm, DATA[l]);
+            l++;
+        } while((l & -l) != l);
+        return N;
+    }
+
+    /**
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める（pr(単位元) = true であること）.<br>
+     * 探索の経路上のノードのみ遅延分を伝播する.<br>
+     * 計算量：O(logN)
+     * @param r 対象範囲上限
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int r, Predicate<T> pr) {
+        if(r == 0) return 0;
+        r += SIZE;
+        for (int i = LOG; i >= 1; i--) push((r-1) >> i);
+        T sm = ET.get();
+        do {
+            r--;
+            while(1 < r && (r & 1) == 1) r >>= 1;
+            if(!pr.test(OP.apply(DATA[r], sm))) {
+                while(r < SIZE) {
+                    push(r);
+                    r = 2*r + 1;
+                    if(pr.test(OP.apply(DATA[r], sm))) {
+                        sm = OP.apply(DATA[r], sm);
+                        r--;
+                    }
+                }
+                return r + 1 - SIZE;
+            }
+            sm = OP.apply(DATA[r], sm);
+        } while((r & -r) != r);
+        return 0;
+    }
+
     private void push(int k){
         allApply(2*k, LAZY[k]);
         allApply(2*k + 1, LAZY[k]);
@@ -230,4 +341,58 @@ class LazySegTree<T, S> {
     private void update(int k) {
         DATA[k] = OP.apply(DATA[k*2], DATA[k*2+1]);
     }
+
+    /**
+     * ノードkを根とする部分木を構築するタスク.<br>
+     * 部分木の葉の数がPARALLEL_THRESHOLDより多い場合は左右の子に分割して並列に処理する.
+     */
+    private class Build extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int k;
+        private final int height;
+        private final T[] a;
+        private final T e;
+        private final S id;
+
+        Build(int k, int height, T[] a, T e, S id){
+            this.k = k;
+            this.height = height;
+            this.a = a;
+            this.e = e;
+            this.id = id;
+        }
+
+        @Override
+        protected void compute() {
+            if((1 << height) <= PARALLEL_THRESHOLD) {
+                build(k, height, a, e, id);
+                return;
+            }
+            invokeAll(new Build(k*2, height-1, a, e, id), new Build(k*2+1, height-1, a, e, id));
+            LAZY[k] = id;
+            update(k);
+        }
+    }
+
+    /**
+     * ノードkを根とする高さheightの部分木を逐次的に構築する.<br>
+     * 計算量：O(2^height)
+     * @param k 部分木の根のindex
+     * @param height 部分木の高さ
+     * @param a 初期配列
+     * @param e データの単位元
+     * @param id 遅延評価の単位元
+     */
+    private void build(int k, int height, T[] a, T e, S id) {
+        for (int i = k << height; i < (k+1) << height; i++) {
+            DATA[i] = i - SIZE < N ? a[i - SIZE] : e;
+            LAZY[i] = id;
+        }
+        for (int h = height-1; h >= 0; h--) {
+            for (int i = k << h; i < (k+1) << h; i++) {
+                LAZY[i] = id;
+                update(i);
+            }
+        }
+    }
 }
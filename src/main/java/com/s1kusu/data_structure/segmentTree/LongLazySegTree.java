@@ -0,0 +1,380 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * Lazy Segment Tree (long特殊化版).<br>
+ * データ・遅延評価をlong[]で保持し、更新・取得時にオブジェクトを生成しない.<br>
+ * 遅延分の適用時には対象ノードの区間長が渡されるため、区間加算・区間代入なども表現できる.<br>
+ * (0-indexed)
+ */
+class LongLazySegTree {
+
+    /**
+     * 遅延分をデータに適用する関数.
+     */
+    @FunctionalInterface
+    interface Mapping {
+        /**
+         * @param x ノードの値
+         * @param f 適用する遅延分
+         * @param len ノードが表す区間の長さ
+         * @return 適用後のノードの値
+         */
+        long apply(long x, long f, long len);
+    }
+
+    /**
+     * 遅延分を合成する関数.
+     */
+    @FunctionalInterface
+    interface Composition {
+        /**
+         * @param f 先に適用されている遅延分
+         * @param g 後から適用する遅延分
+         * @return fの後にgを適用するのと等しい遅延分
+         */
+        long apply(long f, long g);
+    }
+
+    /** 要素数 */
+    private final int N;
+    /** Nより大きい最小の2の累乗数 */
+    private final int SIZE;
+    /** 2 ^ LOG = SIZE */
+    private final int LOG;
+    /**
+     * データ配列.
+     * 要素全体を含むノードのindex：1.
+     * k番目(0-indexed)の要素のindex：k + size
+     * ノードkの親要素のindex：k/2.
+     * ノードkの子要素のうち左側のindex：k*2.
+     * ノードkの子要素のうち右側のindex：k*2+1.
+     */
+    private final long[] DATA;
+    /** 遅延評価配列 */
+    private final long[] LAZY;
+    /** データの単位元 */
+    private final long E;
+    /** クエリ結果を求める関数 */
+    private final LongBinaryOperator OP;
+    /** 遅延評価の単位元 */
+    private final long ID;
+    /** 遅延分をデータに適用する関数 */
+    private final Mapping MAPPING;
+    /** 遅延分を合成する関数 */
+    private final Composition COMPOSITION;
+
+    /**
+     * 全てのノードを単位元で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param n
+     * @param e
+     * @param op
+     * @param id
+     * @param mapping
+     * @param composition
+     */
+    public LongLazySegTree(int n, long e, LongBinaryOperator op, long id,
+            Mapping mapping, Composition composition){
+        int tmpSize = 1, tmpLog = 0;
+        while(tmpSize < n) {
+            tmpLog++;
+            tmpSize *= 2;
+        }
+        this.N = n;
+        this.SIZE = tmpSize;
+        this.LOG = tmpLog;
+        this.DATA = new long[SIZE*2];
+        this.LAZY = new long[SIZE];
+        this.E = e;
+        this.OP = op;
+        this.ID = id;
+        this.MAPPING = mapping;
+        this.COMPOSITION = composition;
+        Arrays.fill(DATA, E);
+        Arrays.fill(LAZY, ID);
+    }
+
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param a
+     * @param e
+     * @param op
+     * @param id
+     * @param mapping
+     * @param composition
+     */
+    public LongLazySegTree(long[] a, long e, LongBinaryOperator op, long id,
+            Mapping mapping, Composition composition){
+        this(a.length, e, op, id, mapping, composition);
+        System.arraycopy(a, 0, DATA, SIZE, N);
+        for (int i = SIZE-1; i > 0; i--) update(i);
+    }
+
+    /**
+     * 区間加算・区間和取得のLazy Segment Treeを生成する.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @return apply(l, r, x)で区間[l, r)にxを加算するLazy Segment Tree
+     */
+    public static LongLazySegTree rangeAddRangeSum(long[] a) {
+        return new LongLazySegTree(a, 0L, Long::sum, 0L,
+                (x, f, len) -> x + f * len,
+                (f, g) -> f + g);
+    }
+
+    /**
+     * 区間代入・区間和取得のLazy Segment Treeを生成する.<br>
+     * Long.MIN_VALUEは遅延評価の単位元として使用するため代入できない.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @return apply(l, r, x)で区間[l, r)をxに置き換えるLazy Segment Tree
+     */
+    public static LongLazySegTree rangeAssignRangeSum(long[] a) {
+        return new LongLazySegTree(a, 0L, Long::sum, Long.MIN_VALUE,
+                (x, f, len) -> f == Long.MIN_VALUE ? x : f * len,
+                (f, g) -> g == Long.MIN_VALUE ? f : g);
+    }
+
+    /**
+     * 区間アフィン変換・区間和取得のLazy Segment Treeを生成する（modを法とする）.<br>
+     * 遅延分は affine(b, c) で生成した値（x → b*x + c）を渡す.<br>
+     * 制約：mod &lt; 2^31、初期配列の各要素は [0, mod) の範囲.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @param mod 法
+     * @return apply(l, r, affine(b, c))で区間[l, r)の各要素xをb*x+cに置き換えるLazy Segment Tree
+     */
+    public static LongLazySegTree rangeAffineRangeSum(long[] a, long mod) {
+        return new LongLazySegTree(a, 0L, (x, y) -> (x + y) % mod, affine(1, 0),
+                (x, f, len) -> ((f >>> 32) * x + (f & 0xFFFFFFFFL) * (len % mod)) % mod,
+                (f, g) -> {
+                    long b1 = f >>> 32, c1 = f & 0xFFFFFFFFL;
+                    long b2 = g >>> 32, c2 = g & 0xFFFFFFFFL;
+                    return affine(b2 * b1 % mod, (b2 * c1 + c2) % mod);
+                });
+    }
+
+    /**
+     * アフィン変換 x → b*x + c を rangeAffineRangeSum の遅延分に変換する.<br>
+     * 計算量：O(1)
+     * @param b 係数（0 ≦ b &lt; mod）
+     * @param c 定数項（0 ≦ c &lt; mod）
+     * @return b, cを詰めた遅延分
+     */
+    public static long affine(long b, long c) {
+        return b << 32 | c;
+    }
+
+    /**
+     * k番目の要素を取得する.<br>
+     * 計算量：O(logN)
+     * @param k
+     * @return k番目の要素の値
+     */
+    public long get(int k) {
+        k += SIZE;
+        for(int i = LOG; i >= 1; i--) push(k >> i, 1L << (i-1));
+        return DATA[k];
+    }
+
+    /**
+     * k番目（0-indexed）の要素をaに更新する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     */
+    public void set(int k, long v){
+        k += SIZE;
+        for(int i = LOG; i >= 1; i--) push(k >> i, 1L << (i-1));
+        DATA[k] = v;
+        for(int i = 1; i <= LOG; i++) update(k >> i);
+    }
+
+    /**
+     * k番目（0-indexed）の要素に s を適用する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param s 更新処理
+     */
+    public void apply(int k, long s) {
+        k += SIZE;
+        for(int i = LOG; i >= 1; i--) push(k >> i, 1L << (i-1));
+        DATA[k] = MAPPING.apply(DATA[k], s, 1L);
+        for(int i = 1; i <= LOG; i++) update(k >> i);
+    }
+
+    /**
+     * 区間[a, b)に s を適用する.<br>
+     * 計算量：O(logN)
+     * @param l 最終的に適用する区間の下限（含む）
+     * @param r 最終的に適用する区間上限（含まない）
+     * @param s 更新処理
+     */
+    public void apply(int l, int r, long s) {
+        if(l == r) return;
+
+        l += SIZE;
+        r += SIZE;
+
+        for (int i = LOG; i >= 1; i--) {
+            if(((l >> i) << i) != l) push(l >> i, 1L << (i-1));
+            if(((r >> i) << i) != r) push((r-1) >> i, 1L << (i-1));
+        }
+
+        int l2 = l, r2 = r;
+        long len = 1L;
+        while(l2 < r2) {
+            if((l2 & 1) == 1) allApply(l2++, s, len);
+            if((r2 & 1) == 1) allApply(--r2, s, len);
+            l2 >>= 1;
+            r2 >>= 1;
+            len <<= 1;
+        }
+
+        for (int i = 1; i <= LOG; i++) {
+            if(((l >> i) << i) != l) update(l >> i);
+            if(((r >> i) << i) != r) update((r-1) >> i);
+        }
+    }
+
+    /**
+     * 区間[l, r)の結果を求める.<br>
+     * 計算量：O(logN)
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[l, r)の結果
+     */
+    public long prod(int l, int r){
+        if(l == r) return E;
+
+        l += SIZE;
+        r += SIZE;
+
+        for (int i = LOG; i >= 1; i--) {
+            if(((l >> i) << i) != l) push(l >> i, 1L << (i-1));
+            if(((r >> i) << i) != r) push(r >> i, 1L << (i-1));
+        }
+
+        long sml = E, smr = E;
+        while(l < r) {
+            if((l & 1) == 1) sml = OP.applyAsLong(sml, DATA[l++]);
+            if((r & 1) == 1) smr = OP.applyAsLong(DATA[--r], smr);
+            l >>= 1;
+            r >>= 1;
+        }
+
+        return OP.applyAsLong(sml, smr);
+    }
+
+    /**
+     * 全区間[0, n)の結果を求める.<br>
+     * 計算量：O(1)
+     * @return 区間[0, r)の結果
+     */
+    public long allProd() {
+        return DATA[1];
+    }
+
+    /**
+     * pr(op(l, l+1, ... , x-1)) = true かつ
+     * pr(op(l, l+1, ... , x)) = false
+     * を満たす最大のxを求める（pr(単位元) = true であること）.<br>
+     * 探索の経路上のノードのみ遅延分を伝播する.<br>
+     * 計算量：O(logN)
+     * @param l 対象範囲下限
+     * @param pr 判定条件
+     * @return 条件を満たす最大のIndex
+     */
+    public int maxRight(int l, LongPredicate pr) {
+        if(l == N) return N;
+        l += SIZE;
+        for (int i = LOG; i >= 1; i--) push(l >> i, 1L << (i-1));
+        long sm = E;
+        do {
+            while((l & 1) == 0) l >>= 1;
+            if(!pr.test(OP.applyAsLong(sm, DATA[l]))) {
+                while(l < SIZE) {
+                    push(l, childLength(l));
+                    l = 2*l;
+                    if(pr.test(OP.applyAsLong(sm, DATA[l]))) {
+                        sm = OP.applyAsLong(sm, DATA[l]);
+                        l++;
+                    }
+                }
+                return l - SIZE;
+            }
+            sm = OP.applyAsLong(sm, DATA[l]);
+            l++;
+        } while((l & -l) != l);
+        return N;
+    }
+
+    /**
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める（pr(単位元) = true であること）.<br>
+     * 探索の経路上のノードのみ遅延分を伝播する.<br>
+     * 計算量：O(logN)
+     * @param r 対象範囲上限
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int r, LongPredicate pr) {
+        if(r == 0) return 0;
+        r += SIZE;
+        for (int i = LOG; i >= 1; i--) push((r-1) >> i, 1L << (i-1));
+        long sm = E;
+        do {
+            r--;
+            while(1 < r && (r & 1) == 1) r >>= 1;
+            if(!pr.test(OP.applyAsLong(DATA[r], sm))) {
+                while(r < SIZE) {
+                    push(r, childLength(r));
+                    r = 2*r + 1;
+                    if(pr.test(OP.applyAsLong(DATA[r], sm))) {
+                        sm = OP.applyAsLong(DATA[r], sm);
+                        r--;
+                    }
+                }
+                return r + 1 - SIZE;
+            }
+            sm = OP.applyAsLong(DATA[r], sm);
+        } while((r & -r) != r);
+        return 0;
+    }
+
+    /**
+     * ノードkの遅延分を子ノードに伝播する.
+     * @param k ノードのindex
+     * @param len 子ノードが表す区間の長さ
+     */
+    private void push(int k, long len){
+        if(LAZY[k] == ID) return;
+        allApply(2*k, LAZY[k], len);
+        allApply(2*k + 1, LAZY[k], len);
+        LAZY[k] = ID;
+    }
+
+    /**
+     * ノードkの子ノードが表す区間の長さを求める.
+     * @param k ノードのindex（k &lt; SIZE）
+     * @return 子ノードが表す区間の長さ
+     */
+    private long childLength(int k) {
+        return (long)SIZE >> (32 - Integer.numberOfLeadingZeros(k));
+    }
+
+    private void allApply(int k, long s, long len) {
+        DATA[k] = MAPPING.apply(DATA[k], s, len);
+        if(k < SIZE) LAZY[k] = COMPOSITION.apply(LAZY[k], s);
+    }
+
+    private void update(int k) {
+        DATA[k] = OP.applyAsLong(DATA[k*2], DATA[k*2+1]);
+    }
+}
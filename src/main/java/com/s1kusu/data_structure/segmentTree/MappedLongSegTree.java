@@ -0,0 +1,132 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.LongBinaryOperator;
+
+import com.s1kusu.util.MappedLongArray;
+
+/**
+ * ファイルをメモリマップした Segment Tree (long特殊化版).<br>
+ * LongSegTree と同じ操作を提供し、配列をヒープ外（ファイル）に置くため
+ * ヒープに収まらない要素数を扱え、再起動後も再構築せずに開き直せる.<br>
+ * ファイルの先頭の要素（未使用のindex 0）に要素数を記録する.<br>
+ * (0-indexed)
+ */
+class MappedLongSegTree implements Closeable {
+
+    /** 要素数 */
+    private final int N;
+    /** nより大きい最小の2の累乗数 */
+    private final long SIZE;
+    /** 単位元 */
+    private final long E;
+    /** クエリ結果を求める関数 */
+    private final LongBinaryOperator OP;
+    /**
+     * 要素全体を含むノードのindex：1.
+     * k番目(0-indexed)の要素のindex：k + size
+     * ノードkの親要素のindex：k/2.
+     * ノードkの子要素のうち左側のindex：k*2.
+     * ノードkの子要素のうち右側のindex：k*2+1.
+     */
+    private final MappedLongArray DATA;
+
+    /**
+     * コンストラクタ.<br>
+     * ファイルが存在しない場合は全てのノードを単位元で初期化し、存在する場合はその内容を使用する.<br>
+     * 既存のファイルを開く場合は、作成時と同じ単位元・演算を指定する必要がある.<br>
+     * 計算量：O(N)（ファイルを新規作成した場合）
+     * @param path 配列を保存するファイル
+     * @param n 要素数
+     * @param e 単位元
+     * @param op 演算
+     * @throws IOException ファイルの操作に失敗した場合
+     * @throws IllegalArgumentException 既存のファイルの長さ・要素数がnと異なる場合（ファイルは変更しない）
+     */
+    public MappedLongSegTree(Path path, int n, long e, LongBinaryOperator op) throws IOException {
+        long tmpSize = 1;
+        while(tmpSize < n) tmpSize *= 2;
+        this.N = n;
+        this.SIZE = tmpSize;
+        this.E = e;
+        this.OP = op;
+        this.DATA = new MappedLongArray(path, SIZE*2);
+        if(DATA.isCreated()) {
+            if(e != 0L) {
+                for (long i = 1; i < SIZE*2; i++) DATA.set(i, e);
+            }
+            DATA.set(0, n);
+        }else if(DATA.get(0) != n) {
+            long stored = DATA.get(0);
+            DATA.close();
+            throw new IllegalArgumentException("element count mismatch: expected " + n + " but " + path + " stores " + stored);
+        }
+    }
+
+    /**
+     * k番目の要素を取得する.<br>
+     * 計算量：O(1)
+     * @param k
+     * @return k番目の要素の値
+     */
+    public long get(int k) {
+        return DATA.get(k + SIZE);
+    }
+
+    /**
+     * k番目（0-indexed）の要素をaに更新する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     */
+    public void set(int k, long v){
+        long i = k + SIZE;
+        DATA.set(i, v);
+        while(1 < i){
+            i >>= 1;
+            DATA.set(i, OP.applyAsLong(DATA.get(i*2), DATA.get(i*2+1)));
+        }
+    }
+
+    /**
+     * 区間[l, r)の結果を取得する.<br>
+     * 計算量：O(logN)
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[a, b)の結果
+     */
+    public long query(int l, int r){
+        long sml = E, smr = E;
+        long li = l + SIZE, ri = r + SIZE;
+        while(li < ri) {
+            if((li & 1) == 1) sml = OP.applyAsLong(sml, DATA.get(li++));
+            if((ri & 1) == 1) smr = OP.applyAsLong(DATA.get(--ri), smr);
+            li >>= 1;
+            ri >>= 1;
+        }
+        return OP.applyAsLong(sml, smr);
+    }
+
+    /**
+     * 全区間[0, n)の結果を求める.<br>
+     * 計算量：O(1)
+     * @return 区間[0, n)の結果
+     */
+    public long allProd() {
+        return DATA.get(1);
+    }
+
+    /**
+     * 変更内容をファイルに書き出す.
+     */
+    public void force() {
+        DATA.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        DATA.close();
+    }
+}
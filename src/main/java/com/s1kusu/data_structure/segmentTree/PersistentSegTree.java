@@ -0,0 +1,231 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Persistent Segment Tree (long特殊化版).<br>
+ * 1点更新ごとに根から葉までの経路上のノードのみを複製し、過去の全てのバージョンに対して区間の結果を求められる.<br>
+ * ノードはオブジェクトではなく、配列（左の子・右の子・値）で管理する.<br>
+ * (0-indexed)
+ */
+class PersistentSegTree {
+
+    /** 配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** 要素数 */
+    private final int N;
+    /** nより大きい最小の2の累乗数 */
+    private final int SIZE;
+    /** 2 ^ LOG = SIZE */
+    private final int LOG;
+    /** 単位元 */
+    private final long E;
+    /** クエリ結果を求める関数 */
+    private final LongBinaryOperator OP;
+    /** 更新時に複製したノードを記録する作業領域 */
+    private final int[] PATH;
+
+    /**
+     * ノードの左の子のindex.<br>
+     * index 0 は全ての要素が単位元である部分木を表すノードで、左右の子は自分自身を指す.
+     */
+    private int[] left;
+    /** ノードの右の子のindex */
+    private int[] right;
+    /** ノードの値 */
+    private long[] val;
+    /** 使用済みのノード数 */
+    private int nodeCount;
+    /** バージョンごとの根のindex */
+    private int[] roots;
+    /** バージョン数 */
+    private int versionCount;
+
+    /**
+     * 全ての要素が単位元であるバージョン0を生成するコンストラクタ.<br>
+     * 計算量：O(1)
+     * @param n 要素数
+     * @param e 単位元
+     * @param op 演算
+     */
+    public PersistentSegTree(int n, long e, LongBinaryOperator op){
+        int tmpSize = 1, tmpLog = 0;
+        while(tmpSize < n) {
+            tmpLog++;
+            tmpSize *= 2;
+        }
+        this.N = n;
+        this.SIZE = tmpSize;
+        this.LOG = tmpLog;
+        this.E = e;
+        this.OP = op;
+        this.PATH = new int[LOG+1];
+        this.left = new int[INITIAL_CAPACITY];
+        this.right = new int[INITIAL_CAPACITY];
+        this.val = new long[INITIAL_CAPACITY];
+        this.val[0] = e;
+        this.nodeCount = 1;
+        this.roots = new int[INITIAL_CAPACITY];
+        this.versionCount = 1;
+    }
+
+    /**
+     * 引数で指定された配列をバージョン0とするコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @param e 単位元
+     * @param op 演算
+     */
+    public PersistentSegTree(long[] a, long e, LongBinaryOperator op){
+        this(a.length, e, op);
+        ensureNodeCapacity(nodeCount + SIZE*2);
+        roots[0] = build(a, 0, SIZE);
+    }
+
+    private int build(long[] a, int lo, int hi) {
+        if(N <= lo) return 0;
+        int k = nodeCount++;
+        if(hi - lo == 1) {
+            val[k] = a[lo];
+            return k;
+        }
+        int mid = (lo + hi) >>> 1;
+        left[k] = build(a, lo, mid);
+        right[k] = build(a, mid, hi);
+        val[k] = OP.applyAsLong(val[left[k]], val[right[k]]);
+        return k;
+    }
+
+    /**
+     * バージョンversionのk番目（0-indexed）の要素をvに更新した新しいバージョンを生成する.<br>
+     * 元のバージョンは変更されない.<br>
+     * 計算量：O(logN)
+     * @param version 更新元のバージョン
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     * @return 生成したバージョン
+     */
+    public int set(int version, int k, long v){
+        ensureNodeCapacity(nodeCount + LOG + 1);
+        int cur = roots[version];
+        int node = nodeCount++;
+        PATH[0] = node;
+        int lo = 0, hi = SIZE;
+        for (int d = 1; d <= LOG; d++) {
+            int mid = (lo + hi) >>> 1;
+            int next = nodeCount++;
+            if(k < mid) {
+                left[node] = next;
+                right[node] = right[cur];
+                cur = left[cur];
+                hi = mid;
+            }else {
+                left[node] = left[cur];
+                right[node] = next;
+                cur = right[cur];
+                lo = mid;
+            }
+            node = next;
+            PATH[d] = node;
+        }
+        left[node] = 0;
+        right[node] = 0;
+        val[node] = v;
+        for (int d = LOG-1; d >= 0; d--) {
+            int p = PATH[d];
+            val[p] = OP.applyAsLong(val[left[p]], val[right[p]]);
+        }
+
+        if(roots.length == versionCount) roots = Arrays.copyOf(roots, versionCount * 2);
+        roots[versionCount] = PATH[0];
+        return versionCount++;
+    }
+
+    /**
+     * 最新のバージョンのk番目（0-indexed）の要素をvに更新した新しいバージョンを生成する.<br>
+     * 計算量：O(logN)
+     * @param k 変更対象要素のindex（0-indexed）
+     * @param v 変更後の値
+     * @return 生成したバージョン
+     */
+    public int set(int k, long v){
+        return set(versionCount - 1, k, v);
+    }
+
+    /**
+     * バージョンversionのk番目の要素を取得する.<br>
+     * 計算量：O(logN)
+     * @param version 対象のバージョン
+     * @param k
+     * @return k番目の要素の値
+     */
+    public long get(int version, int k) {
+        int node = roots[version];
+        for (int d = LOG-1; d >= 0; d--) {
+            node = ((k >> d) & 1) == 0 ? left[node] : right[node];
+        }
+        return val[node];
+    }
+
+    /**
+     * バージョンversionにおける区間[l, r)の結果を取得する.<br>
+     * 計算量：O(logN)
+     * @param version 対象のバージョン
+     * @param l 求める区間の下限（含む）
+     * @param r 求める区間の上限（含まない）
+     * @return 区間[l, r)の結果
+     */
+    public long query(int version, int l, int r){
+        return query(roots[version], 0, SIZE, l, r);
+    }
+
+    private long query(int k, int lo, int hi, int l, int r){
+        if(k == 0 || hi <= l || r <= lo) return E;
+
+        if(l <= lo && hi <= r) return val[k];
+
+        int mid = (lo + hi) >>> 1;
+        long vl = query(left[k], lo, mid, l, r);
+        long vr = query(right[k], mid, hi, l, r);
+        return OP.applyAsLong(vl, vr);
+    }
+
+    /**
+     * バージョンversionの根のノードのindexを取得する.<br>
+     * 計算量：O(1)
+     * @param version 対象のバージョン
+     * @return 根のノードのindex
+     */
+    public int root(int version) {
+        return roots[version];
+    }
+
+    /**
+     * 生成済みのバージョン数を取得する.<br>
+     * 計算量：O(1)
+     * @return バージョン数（最新のバージョンは versions()-1）
+     */
+    public int versions() {
+        return versionCount;
+    }
+
+    /**
+     * 使用済みのノード数を取得する.<br>
+     * 計算量：O(1)
+     * @return ノード数
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    private void ensureNodeCapacity(int required) {
+        if(required <= left.length) return;
+        int capacity = left.length;
+        while(capacity < required) capacity *= 2;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        val = Arrays.copyOf(val, capacity);
+    }
+}
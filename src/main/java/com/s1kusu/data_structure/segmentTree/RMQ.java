@@ -38,25 +38,21 @@ public class RMQ {
 
     /**
      * 区間[a, b)での最小値を求めます.
-     * 最初に呼ぶ際は、query(a, b, 0, 0, size)として呼ぶ.
      * @param a 求める区間の下限（含む）
      * @param b 求める区間の上限（含まない）
-     * @param k 確認するノードのindex
-     * @param l 確認するノードの下限（含む）
-     * @param r 確認するノードの上限（含まない）
      * @return 区間[a, b)での最小値
      */
-    private int query(int a, int b, int k, int l, int r){
-        if(r <= a || b <= l) return Integer.MAX_VALUE;
-
-        if(a <= l && r <= b) return data[k];
-
-        int vl = query(a, b, k*2+1, l, (l+r)/2);
-        int vr = query(a, b, k*2+2, (l+r)/2, r);
-        return Math.min(vl, vr);
-    }
-
     public int query(int a, int b){
-        return query(a, b, 0, 0, size);
+        int ret = Integer.MAX_VALUE;
+        // ノードkのindexを1始まりに読み替えて走査する（data[k-1]がノードk）
+        a += size;
+        b += size;
+        while(a < b){
+            if((a & 1) == 1) ret = Math.min(ret, data[a++ - 1]);
+            if((b & 1) == 1) ret = Math.min(ret, data[--b - 1]);
+            a >>= 1;
+            b >>= 1;
+        }
+        return ret;
     }
 }
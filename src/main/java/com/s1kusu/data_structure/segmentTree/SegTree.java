@@ -1,6 +1,8 @@
 package com.s1kusu.data_structure.segmentTree;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 
@@ -10,6 +12,9 @@ import java.util.function.Predicate;
  */
 class SegTree<T> {
 
+    /** 並列構築時、葉の数がこの値以下の部分木は逐次的に構築する */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     /** 要素数 */
     private final int N;
     /** nより大きい最小の2の累乗数 */
@@ -67,6 +72,28 @@ class SegTree<T> {
         for (int i = SIZE-1; i > 0; i--) update(i);
     }
 
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ（並列構築）.<br>
+     * 互いに素な部分木ごとにpool上で葉の設定・ノードの計算を行う.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     * @param e 単位元
+     * @param op 演算
+     * @param pool 構築に使用するスレッドプール
+     */
+    @SuppressWarnings("unchecked")
+    public SegTree(T[] a, T e, BinaryOperator<T> op, ForkJoinPool pool){
+        int tmpSize = 1;
+        while(tmpSize < a.length) tmpSize *= 2;
+        this.N = a.length;
+        this.SIZE = tmpSize;
+        this.E = e;
+        this.OP = op;
+        this.DATA = (T[]) new Object[SIZE*2];
+        DATA[0] = e;
+        pool.invoke(new Build(1, Integer.numberOfTrailingZeros(SIZE), a));
+    }
+
     /**
      * k番目の要素を取得する.<br>
      * 計算量：O(1)
@@ -92,6 +119,34 @@ class SegTree<T> {
         }
     }
 
+    /**
+     * indices[i]番目（0-indexed）の要素をvalues[i]に一括で更新する.<br>
+     * 同じindexが複数回指定された場合は後の値が優先される.<br>
+     * 更新対象の祖先ノードは階層ごとに重複を除いて1回ずつ再計算する.<br>
+     * 計算量：O(K logK + K log(N/K)) （Kは更新する要素数）
+     * @param indices 変更対象要素のindex（0-indexed）の配列
+     * @param values 変更後の値の配列
+     */
+    public void setAll(int[] indices, T[] values){
+        int m = indices.length;
+        if(m == 0) return;
+        int[] nodes = new int[m];
+        for (int i = 0; i < m; i++) {
+            nodes[i] = indices[i] + SIZE;
+            DATA[nodes[i]] = values[i];
+        }
+        Arrays.sort(nodes);
+        while(1 < nodes[0]) {
+            int cnt = 0;
+            for (int i = 0; i < m; i++) {
+                int p = nodes[i] >> 1;
+                if(cnt == 0 || nodes[cnt-1] != p) nodes[cnt++] = p;
+            }
+            m = cnt;
+            for (int i = 0; i < m; i++) update(nodes[i]);
+        }
+    }
+
     /**
      * ノードkに演算を適用する.<br>
      * 計算量：O(1)
@@ -109,26 +164,16 @@ class SegTree<T> {
      * @return 区間[a, b)の結果
      */
     public T query(int l, int r){
-        return query(l, r, 1, 0, SIZE);
-    }
-
-    /**
-     * 区間[l, r)の結果を取得する.<br>
-     * @param l 求める区間の下限（含む）
-     * @param r 求める区間の上限（含まない）
-     * @param k 確認するノードのindex
-     * @param a 確認するノードの下限（含む）
-     * @param b 確認するノードの上限（含まない）
-     * @return 区間[a, b)の結果
-     */
-    private T query(int l, int r, int k, int a, int b){
-        if(b <= l || r <= a) return E;
-
-        if(l <= a && b <= r) return DATA[k];
-
-        T vl = query(l, r, k*2, a, (a+b)/2);
-        T vr = query(l, r, k*2+1, (a+b)/2, b);
-        return OP.apply(vl, vr);
+        T sml = E, smr = E;
+        l += SIZE;
+        r += SIZE;
+        while(l < r) {
+            if((l & 1) == 1) sml = OP.apply(sml, DATA[l++]);
+            if((r & 1) == 1) smr = OP.apply(DATA[--r], smr);
+            l >>= 1;
+            r >>= 1;
+        }
+        return OP.apply(sml, smr);
     }
 
     /**
@@ -181,5 +226,96 @@ class SegTree<T> {
         return r;
     }
 
-    // TODO minLeft()
+    /**
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param r 対象範囲上限
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int r, Predicate<T> pr) {
+        return minLeft(0, r, pr);
+    }
+
+    /**
+     * [l, r)の範囲において
+     * pr(op(x, x+1, ... , r-1)) = true かつ
+     * pr(op(x-1, x, ... , r-1)) = false
+     * を満たす最小のxを求める.<br>
+     * @param l 対象範囲下限（含む）
+     * @param r 対象範囲上限（含まない）
+     * @param pr 判定条件
+     * @return 条件を満たす最小のIndex
+     */
+    public int minLeft(int l, int r, Predicate<T> pr) {
+        int idx = r - 1 + SIZE;
+        int li = r - 1, ri = r - 1, width = 1;
+        T applied = E;
+        while(0 <= li) {
+            T tmp = OP.apply(DATA[idx], applied);
+            if(l <= li && pr.test(tmp)) {
+                applied = tmp;
+                if((idx&1) == 1) {
+                    idx--;
+                }else {
+                    idx = idx/2 -1;
+                    width *= 2;
+                }
+                ri = li - 1;
+                li = ri - width + 1;
+            }else {
+                if(SIZE <= idx) {
+                    return ri + 1;
+                }
+                idx = idx*2 + 1;
+                width /= 2;
+                li += width;
+            }
+        }
+        return l;
+    }
+
+    /**
+     * ノードkを根とする部分木を構築するタスク.<br>
+     * 部分木の葉の数がPARALLEL_THRESHOLDより多い場合は左右の子に分割して並列に処理する.
+     */
+    private class Build extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int k;
+        private final int height;
+        private final T[] a;
+
+        Build(int k, int height, T[] a){
+            this.k = k;
+            this.height = height;
+            this.a = a;
+        }
+
+        @Override
+        protected void compute() {
+            if((1 << height) <= PARALLEL_THRESHOLD) {
+                build(k, height, a);
+                return;
+            }
+            invokeAll(new Build(k*2, height-1, a), new Build(k*2+1, height-1, a));
+            update(k);
+        }
+    }
+
+    /**
+     * ノードkを根とする高さheightの部分木を逐次的に構築する.<br>
+     * 計算量：O(2^height)
+     * @param k 部分木の根のindex
+     * @param height 部分木の高さ
+     * @param a 初期配列
+     */
+    private void build(int k, int height, T[] a) {
+        for (int i = k << height; i < (k+1) << height; i++) {
+            DATA[i] = i - SIZE < N ? a[i - SIZE] : E;
+        }
+        for (int h = height-1; h >= 0; h--) {
+            for (int i = k << h; i < (k+1) << h; i++) update(i);
+        }
+    }
 }
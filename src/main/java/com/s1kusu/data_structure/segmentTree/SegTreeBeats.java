@@ -0,0 +1,299 @@
+package com.s1kusu.data_structure.segmentTree;
+
+/**
+ * Segment Tree Beats.<br>
+ * 長さnの配列に対し以下の操作を償却O(log^2 N)で行うデータ構造.
+ * <ul>
+ * <li>chmin：区間の各要素をxとの最小値に置き換える</li>
+ * <li>chmax：区間の各要素をxとの最大値に置き換える</li>
+ * <li>add：区間の各要素にxを加算する</li>
+ * <li>sum / max / min：区間の総和・最大値・最小値</li>
+ * </ul>
+ * (0-indexed)
+ */
+class SegTreeBeats {
+
+    /** 存在しない2番目の最大値を表す値 */
+    private static final long NEG_INF = Long.MIN_VALUE;
+    /** 存在しない2番目の最小値を表す値 */
+    private static final long POS_INF = Long.MAX_VALUE;
+
+    /** 要素数 */
+    private final int N;
+    /**
+     * 最大値.
+     * 要素全体を含むノードのindex：1.
+     * ノードkの子要素のうち左側のindex：k*2.
+     * ノードkの子要素のうち右側のindex：k*2+1.
+     */
+    private final long[] MAX1;
+    /** 2番目の最大値（最大値と異なる値のうち最大のもの） */
+    private final long[] MAX2;
+    /** 最大値の個数 */
+    private final long[] MAXC;
+    /** 最小値 */
+    private final long[] MIN1;
+    /** 2番目の最小値（最小値と異なる値のうち最小のもの） */
+    private final long[] MIN2;
+    /** 最小値の個数 */
+    private final long[] MINC;
+    /** 総和 */
+    private final long[] SUM;
+    /** 遅延評価中の加算値 */
+    private final long[] LAZY_ADD;
+
+    /**
+     * 全ての要素を0で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param n 要素数
+     */
+    public SegTreeBeats(int n){
+        this(new long[n]);
+    }
+
+    /**
+     * 引数で指定された配列で初期化するコンストラクタ.<br>
+     * 計算量：O(N)
+     * @param a 初期配列
+     */
+    public SegTreeBeats(long[] a){
+        this.N = a.length;
+        int size = Math.max(1, 4 * N);
+        this.MAX1 = new long[size];
+        this.MAX2 = new long[size];
+        this.MAXC = new long[size];
+        this.MIN1 = new long[size];
+        this.MIN2 = new long[size];
+        this.MINC = new long[size];
+        this.SUM = new long[size];
+        this.LAZY_ADD = new long[size];
+        if(0 < N) build(a, 1, 0, N);
+    }
+
+    private void build(long[] a, int k, int l, int r) {
+        if(r - l == 1) {
+            MAX1[k] = MIN1[k] = SUM[k] = a[l];
+            MAX2[k] = NEG_INF;
+            MIN2[k] = POS_INF;
+            MAXC[k] = MINC[k] = 1;
+            return;
+        }
+        int m = (l + r) >>> 1;
+        build(a, k*2, l, m);
+        build(a, k*2+1, m, r);
+        update(k);
+    }
+
+    /**
+     * 区間[a, b)の各要素をxとの最小値に置き換える.<br>
+     * 計算量：償却O(log^2 N)
+     * @param a 対象区間の下限（含む）
+     * @param b 対象区間の上限（含まない）
+     * @param x
+     */
+    public void chmin(int a, int b, long x) {
+        if(a < b) chmin(a, b, x, 1, 0, N);
+    }
+
+    private void chmin(int a, int b, long x, int k, int l, int r) {
+        if(b <= l || r <= a || MAX1[k] <= x) return;
+        if(a <= l && r <= b && MAX2[k] < x) {
+            updateNodeMax(k, x);
+            return;
+        }
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        chmin(a, b, x, k*2, l, m);
+        chmin(a, b, x, k*2+1, m, r);
+        update(k);
+    }
+
+    /**
+     * 区間[a, b)の各要素をxとの最大値に置き換える.<br>
+     * 計算量：償却O(log^2 N)
+     * @param a 対象区間の下限（含む）
+     * @param b 対象区間の上限（含まない）
+     * @param x
+     */
+    public void chmax(int a, int b, long x) {
+        if(a < b) chmax(a, b, x, 1, 0, N);
+    }
+
+    private void chmax(int a, int b, long x, int k, int l, int r) {
+        if(b <= l || r <= a || x <= MIN1[k]) return;
+        if(a <= l && r <= b && x < MIN2[k]) {
+            updateNodeMin(k, x);
+            return;
+        }
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        chmax(a, b, x, k*2, l, m);
+        chmax(a, b, x, k*2+1, m, r);
+        update(k);
+    }
+
+    /**
+     * 区間[a, b)の各要素にxを加算する.<br>
+     * 計算量：O(logN)
+     * @param a 対象区間の下限（含む）
+     * @param b 対象区間の上限（含まない）
+     * @param x
+     */
+    public void add(int a, int b, long x) {
+        if(a < b) add(a, b, x, 1, 0, N);
+    }
+
+    private void add(int a, int b, long x, int k, int l, int r) {
+        if(b <= l || r <= a) return;
+        if(a <= l && r <= b) {
+            addAll(k, x, r - l);
+            return;
+        }
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        add(a, b, x, k*2, l, m);
+        add(a, b, x, k*2+1, m, r);
+        update(k);
+    }
+
+    /**
+     * 区間[a, b)の総和を求める.<br>
+     * 計算量：O(logN)
+     * @param a 求める区間の下限（含む）
+     * @param b 求める区間の上限（含まない）
+     * @return 区間[a, b)の総和
+     */
+    public long sum(int a, int b) {
+        return a < b ? sum(a, b, 1, 0, N) : 0L;
+    }
+
+    private long sum(int a, int b, int k, int l, int r) {
+        if(b <= l || r <= a) return 0L;
+        if(a <= l && r <= b) return SUM[k];
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        return sum(a, b, k*2, l, m) + sum(a, b, k*2+1, m, r);
+    }
+
+    /**
+     * 区間[a, b)の最大値を求める.<br>
+     * 計算量：O(logN)
+     * @param a 求める区間の下限（含む）
+     * @param b 求める区間の上限（含まない）
+     * @return 区間[a, b)の最大値（区間が空の場合はLong.MIN_VALUE）
+     */
+    public long max(int a, int b) {
+        return a < b ? max(a, b, 1, 0, N) : NEG_INF;
+    }
+
+    private long max(int a, int b, int k, int l, int r) {
+        if(b <= l || r <= a) return NEG_INF;
+        if(a <= l && r <= b) return MAX1[k];
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        return Math.max(max(a, b, k*2, l, m), max(a, b, k*2+1, m, r));
+    }
+
+    /**
+     * 区間[a, b)の最小値を求める.<br>
+     * 計算量：O(logN)
+     * @param a 求める区間の下限（含む）
+     * @param b 求める区間の上限（含まない）
+     * @return 区間[a, b)の最小値（区間が空の場合はLong.MAX_VALUE）
+     */
+    public long min(int a, int b) {
+        return a < b ? min(a, b, 1, 0, N) : POS_INF;
+    }
+
+    private long min(int a, int b, int k, int l, int r) {
+        if(b <= l || r <= a) return POS_INF;
+        if(a <= l && r <= b) return MIN1[k];
+        push(k, l, r);
+        int m = (l + r) >>> 1;
+        return Math.min(min(a, b, k*2, l, m), min(a, b, k*2+1, m, r));
+    }
+
+    /**
+     * ノードkの最大値をx（MAX2[k] &lt; x &lt; MAX1[k]）に置き換える.
+     */
+    private void updateNodeMax(int k, long x) {
+        SUM[k] += (x - MAX1[k]) * MAXC[k];
+        if(MAX1[k] == MIN1[k]) {
+            MIN1[k] = x;
+        }else if(MAX1[k] == MIN2[k]) {
+            MIN2[k] = x;
+        }
+        MAX1[k] = x;
+    }
+
+    /**
+     * ノードkの最小値をx（MIN1[k] &lt; x &lt; MIN2[k]）に置き換える.
+     */
+    private void updateNodeMin(int k, long x) {
+        SUM[k] += (x - MIN1[k]) * MINC[k];
+        if(MIN1[k] == MAX1[k]) {
+            MAX1[k] = x;
+        }else if(MIN1[k] == MAX2[k]) {
+            MAX2[k] = x;
+        }
+        MIN1[k] = x;
+    }
+
+    /**
+     * ノードk（区間長len）の全要素にxを加算する.
+     */
+    private void addAll(int k, long x, int len) {
+        MAX1[k] += x;
+        if(MAX2[k] != NEG_INF) MAX2[k] += x;
+        MIN1[k] += x;
+        if(MIN2[k] != POS_INF) MIN2[k] += x;
+        SUM[k] += x * len;
+        LAZY_ADD[k] += x;
+    }
+
+    private void push(int k, int l, int r) {
+        int m = (l + r) >>> 1;
+        if(LAZY_ADD[k] != 0) {
+            addAll(k*2, LAZY_ADD[k], m - l);
+            addAll(k*2+1, LAZY_ADD[k], r - m);
+            LAZY_ADD[k] = 0;
+        }
+        for (int c = k*2; c <= k*2+1; c++) {
+            if(MAX1[k] < MAX1[c]) updateNodeMax(c, MAX1[k]);
+            if(MIN1[c] < MIN1[k]) updateNodeMin(c, MIN1[k]);
+        }
+    }
+
+    private void update(int k) {
+        int l = k*2, r = k*2+1;
+        SUM[k] = SUM[l] + SUM[r];
+
+        if(MAX1[l] < MAX1[r]) {
+            MAX1[k] = MAX1[r];
+            MAXC[k] = MAXC[r];
+            MAX2[k] = Math.max(MAX1[l], MAX2[r]);
+        }else if(MAX1[r] < MAX1[l]) {
+            MAX1[k] = MAX1[l];
+            MAXC[k] = MAXC[l];
+            MAX2[k] = Math.max(MAX2[l], MAX1[r]);
+        }else {
+            MAX1[k] = MAX1[l];
+            MAXC[k] = MAXC[l] + MAXC[r];
+            MAX2[k] = Math.max(MAX2[l], MAX2[r]);
+        }
+
+        if(MIN1[l] < MIN1[r]) {
+            MIN1[k] = MIN1[l];
+            MINC[k] = MINC[l];
+            MIN2[k] = Math.min(MIN2[l], MIN1[r]);
+        }else if(MIN1[r] < MIN1[l]) {
+            MIN1[k] = MIN1[r];
+            MINC[k] = MINC[r];
+            MIN2[k] = Math.min(MIN1[l], MIN2[r]);
+        }else {
+            MIN1[k] = MIN1[l];
+            MINC[k] = MINC[l] + MINC[r];
+            MIN2[k] = Math.min(MIN2[l], MIN2[r]);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.s1kusu.data_structure.segmentTree;
+
+/**
+ * Sparse Table - Range Minimum Query.<br>
+ * 構築後に値を変更しない配列に対して、区間の最小値をO(1)で求める.<br>
+ * 値を更新しない用途では RMQ の代わりに使用できる.<br>
+ * (0-indexed)
+ */
+public class StaticRMQ {
+
+    /** 要素数 */
+    private final int N;
+    /** 2 ^ LOG ≦ N を満たす最大のLOG */
+    private final int LOG;
+    /**
+     * table[j * N + i]：区間[i, i + 2^j)での最小値.
+     */
+    private final int[] TABLE;
+
+    /**
+     * 引数で指定された配列からSparse Tableを構築するコンストラクタ.<br>
+     * 計算量：O(NlogN)
+     * @param a 対象の配列
+     */
+    public StaticRMQ(int[] a){
+        this.N = a.length;
+        this.LOG = N == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(N);
+        this.TABLE = new int[(LOG + 1) * N];
+        System.arraycopy(a, 0, TABLE, 0, N);
+        for (int j = 1; j <= LOG; j++) {
+            int cur = j * N, prev = (j - 1) * N, half = 1 << (j - 1);
+            for (int i = 0; i + (1 << j) <= N; i++) {
+                TABLE[cur + i] = Math.min(TABLE[prev + i], TABLE[prev + i + half]);
+            }
+        }
+    }
+
+    /**
+     * 区間[a, b)での最小値を求めます.<br>
+     * 計算量：O(1)
+     * @param a 求める区間の下限（含む）
+     * @param b 求める区間の上限（含まない）
+     * @return 区間[a, b)での最小値（区間が空の場合はInteger.MAX_VALUE）
+     */
+    public int query(int a, int b){
+        if(b <= a) return Integer.MAX_VALUE;
+        int j = 31 - Integer.numberOfLeadingZeros(b - a);
+        return Math.min(TABLE[j * N + a], TABLE[j * N + b - (1 << j)]);
+    }
+}
@@ -0,0 +1,130 @@
+package com.s1kusu.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ファイルをメモリマップしたlong配列.<br>
+ * ヒープ外に配置されるため、ヒープに収まらない長さ（2^31以上）の配列を扱え、
+ * ファイルを開き直すことで内容を再利用できる.<br>
+ * 1つのMappedByteBufferは2GB未満に制限されるため、1GBごとのチャンクに分割してマップする.
+ */
+public class MappedLongArray implements Closeable {
+
+    /** 1チャンクあたりの要素数の2の対数 */
+    private static final int CHUNK_SHIFT = 27;
+    /** 1チャンクあたりの要素数 - 1 */
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    /** 要素数 */
+    private final long length;
+    /** マップ元のファイルが新規作成されたか */
+    private final boolean created;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * ファイルを要素数lengthのlong配列としてマップする.<br>
+     * ファイルが存在しない場合（空の場合）は作成し、全ての要素を0で初期化する.<br>
+     * 既存のファイルはマップする前に長さを確認し、要素数lengthと一致しない場合はファイルを変更せずに例外を投げる.<br>
+     * 計算量：O(length / 2^27)
+     * @param path マップするファイル
+     * @param length 要素数
+     * @throws IOException ファイルの操作に失敗した場合
+     * @throws IllegalArgumentException 既存のファイルの長さが length * 8 バイトと異なる場合
+     */
+    public MappedLongArray(Path path, long length) throws IOException {
+        this.length = length;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if(fileSize != 0 && fileSize != length * Long.BYTES) {
+            channel.close();
+            throw new IllegalArgumentException("file size mismatch: expected " + length * Long.BYTES
+                    + " bytes (" + length + " longs) but " + path + " has " + fileSize + " bytes");
+        }
+        this.created = fileSize == 0;
+        int chunkCount = (int)((length + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new MappedByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            long begin = (long)c << CHUNK_SHIFT;
+            long size = Math.min(length - begin, 1L << CHUNK_SHIFT) * Long.BYTES;
+            chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, begin * Long.BYTES, size);
+            chunks[c].order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * i番目の要素を取得する.<br>
+     * 計算量：O(1)
+     * @param i
+     * @return i番目の要素の値
+     */
+    public long get(long i) {
+        return chunks[(int)(i >>> CHUNK_SHIFT)].getLong((int)(i & CHUNK_MASK) << 3);
+    }
+
+    /**
+     * i番目の要素をvに更新する.<br>
+     * 計算量：O(1)
+     * @param i
+     * @param v
+     */
+    public void set(long i, long v) {
+        chunks[(int)(i >>> CHUNK_SHIFT)].putLong((int)(i & CHUNK_MASK) << 3, v);
+    }
+
+    /**
+     * i番目の要素にvを加算する.<br>
+     * 計算量：O(1)
+     * @param i
+     * @param v
+     */
+    public void add(long i, long v) {
+        MappedByteBuffer chunk = chunks[(int)(i >>> CHUNK_SHIFT)];
+        int offset = (int)(i & CHUNK_MASK) << 3;
+        chunk.putLong(offset, chunk.getLong(offset) + v);
+    }
+
+    /**
+     * 要素数を取得する.<br>
+     * 計算量：O(1)
+     * @return 要素数
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * マップ時にファイルを新規作成したかを取得する.<br>
+     * 計算量：O(1)
+     * @return 新規作成した場合はtrue、既存のファイルをそのまま開いた場合はfalse
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * 変更内容をファイルに書き出す.<br>
+     * 計算量：O(length)
+     */
+    public void force() {
+        for(MappedByteBuffer chunk : chunks) chunk.force();
+    }
+
+    /**
+     * 変更内容をファイルに書き出し、ファイルを閉じる.<br>
+     * マップ済みの領域はGCされるまで解放されない.
+     * @throws IOException ファイルの操作に失敗した場合
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
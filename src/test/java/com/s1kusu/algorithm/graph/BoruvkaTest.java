@@ -0,0 +1,33 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class BoruvkaTest {
+
+    @Test
+    void testBoruvka() {
+        Random rnd = new Random(0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int t = 0; t < 20; t++) {
+                int n = rnd.nextInt(200) + 1, m = rnd.nextInt(1000);
+                int[] from = new int[m], to = new int[m];
+                long[] cost = new long[m];
+                for (int i = 0; i < m; i++) {
+                    from[i] = rnd.nextInt(n);
+                    to[i] = rnd.nextInt(n);
+                    cost[i] = rnd.nextInt(20) - 5;
+                }
+                assertArrayEquals(Kruskal.kruskal(n, from, to, cost), Boruvka.boruvka(n, from, to, cost, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
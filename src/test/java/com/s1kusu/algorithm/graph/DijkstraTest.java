@@ -0,0 +1,36 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.s1kusu.data_structure.CsrGraph;
+
+public class DijkstraTest {
+
+    @Test
+    void testCsrGraph() {
+        Random rnd = new Random(0);
+        int n = 300, m = 2000;
+        int[] from = new int[m], to = new int[m];
+        long[] cost = new long[m];
+        int[][][] graph = new int[n][][];
+        int[] deg = new int[n];
+        for (int i = 0; i < m; i++) {
+            from[i] = rnd.nextInt(n);
+            to[i] = rnd.nextInt(n);
+            cost[i] = rnd.nextInt(1000);
+            deg[from[i]]++;
+        }
+        for (int v = 0; v < n; v++) graph[v] = new int[deg[v]][];
+        for (int i = 0; i < m; i++) graph[from[i]][--deg[from[i]]] = new int[] {to[i], (int)cost[i]};
+
+        CsrGraph g = CsrGraph.directed(n, from, to, cost);
+        for (int s = 0; s < 5; s++) {
+            assertArrayEquals(Dijkstra.dijkstra(n, graph, s), Dijkstra.dijkstra(g, s));
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KruskalTest {
+
+    @Test
+    void testKruskal() {
+        int[][] edge = {{0, 1, 4}, {1, 2, 2}, {0, 2, 5}, {2, 3, 1}, {1, 3, 3}};
+        assertEquals(7, Kruskal.kruskal(4, edge));
+
+        int[] from = {0, 1, 0, 2, 1};
+        int[] to = {1, 2, 2, 3, 3};
+        long[] cost = {4, 2, 5, 1, 3};
+        assertArrayEquals(new int[] {3, 1, 0}, Kruskal.kruskal(4, from, to, cost));
+    }
+
+    @Test
+    void testSortedOrder() {
+        Random rnd = new Random(0);
+        long[] cost = new long[1000];
+        for (int i = 0; i < cost.length; i++) {
+            cost[i] = rnd.nextBoolean() ? rnd.nextLong() : rnd.nextInt(10) - 5;
+        }
+        int[] order = Kruskal.sortedOrder(cost);
+        for (int i = 1; i < order.length; i++) {
+            int a = order[i - 1], b = order[i];
+            assertTrue(cost[a] < cost[b] || cost[a] == cost[b] && a < b);
+        }
+    }
+
+}
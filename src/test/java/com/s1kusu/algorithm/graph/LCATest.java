@@ -0,0 +1,43 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.s1kusu.data_structure.CsrGraph;
+
+public class LCATest {
+
+    @Test
+    void testCsrGraph() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 30; t++) {
+            int n = 1 + rnd.nextInt(100);
+            int[] from = new int[n - 1], to = new int[n - 1];
+            int[] deg = new int[n];
+            for (int v = 1; v < n; v++) {
+                from[v - 1] = rnd.nextInt(v);
+                to[v - 1] = v;
+                deg[from[v - 1]]++;
+                deg[v]++;
+            }
+            int[][] tree = new int[n][];
+            for (int v = 0; v < n; v++) tree[v] = new int[deg[v]];
+            for (int i = 0; i < n - 1; i++) {
+                tree[from[i]][--deg[from[i]]] = to[i];
+                tree[to[i]][--deg[to[i]]] = from[i];
+            }
+            int root = rnd.nextInt(n);
+            LCA expected = new LCA(n, root, tree);
+            LCA lca = new LCA(root, CsrGraph.undirected(n, from, to));
+            assertArrayEquals(expected.depth, lca.depth);
+            for (int q = 0; q < 100; q++) {
+                int a = rnd.nextInt(n), b = rnd.nextInt(n);
+                assertEquals(expected.lca(a, b), lca.lca(a, b));
+            }
+        }
+    }
+
+}
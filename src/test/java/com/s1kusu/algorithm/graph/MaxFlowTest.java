@@ -0,0 +1,36 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.s1kusu.data_structure.CsrGraph;
+
+public class MaxFlowTest {
+
+    @Test
+    void testCsrGraph() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 100; t++) {
+            int n = 2 + rnd.nextInt(15), m = rnd.nextInt(60);
+            int[] from = new int[m], to = new int[m];
+            long[] cap = new long[m];
+            MaxFlow directed = new MaxFlow(n);
+            MaxFlow undirected = new MaxFlow(n);
+            for (int i = 0; i < m; i++) {
+                from[i] = rnd.nextInt(n);
+                to[i] = rnd.nextInt(n);
+                cap[i] = rnd.nextInt(20);
+                directed.addEdge(from[i], to[i], cap[i]);
+                undirected.addEdge(from[i], to[i], cap[i]);
+                undirected.addEdge(to[i], from[i], cap[i]);
+            }
+            int s = rnd.nextInt(n), g = (s + 1 + rnd.nextInt(n - 1)) % n;
+            assertEquals(directed.flow(s, g), MaxFlow.flow(CsrGraph.directed(n, from, to, cap), s, g));
+            assertEquals(undirected.flow(s, g), MaxFlow.flow(CsrGraph.undirected(n, from, to, cap), s, g));
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.s1kusu.data_structure.DJSet;
+
+public class OfflineDynamicConnectivityTest {
+
+    @Test
+    void testSolve() {
+        OfflineDynamicConnectivity odc = new OfflineDynamicConnectivity(4);
+        odc.query(0, 1);
+        odc.addEdge(0, 1);
+        odc.addEdge(1, 2);
+        odc.query(0, 2);
+        odc.addEdge(2, 1);
+        odc.removeEdge(1, 2);
+        odc.query(0, 2);
+        odc.removeEdge(2, 1);
+        odc.query(0, 2);
+        odc.query(1, 0);
+        assertArrayEquals(new boolean[] {false, true, true, false, true}, odc.solve());
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        int n = 8;
+        OfflineDynamicConnectivity odc = new OfflineDynamicConnectivity(n);
+        List<int[]> edges = new ArrayList<>();
+        List<Boolean> expected = new ArrayList<>();
+        for (int q = 0; q < 500; q++) {
+            int op = rnd.nextInt(3);
+            if(op == 0) {
+                int u = rnd.nextInt(n), v = rnd.nextInt(n);
+                edges.add(new int[] {u, v});
+                odc.addEdge(u, v);
+            }else if(op == 1 && !edges.isEmpty()) {
+                int[] e = edges.remove(rnd.nextInt(edges.size()));
+                odc.removeEdge(e[1], e[0]);
+            }else {
+                int u = rnd.nextInt(n), v = rnd.nextInt(n);
+                DJSet dj = new DJSet(n);
+                for(int[] e : edges) dj.union(e[0], e[1]);
+                expected.add(dj.same(u, v));
+                odc.query(u, v);
+            }
+        }
+        boolean[] ans = odc.solve();
+        assertEquals(expected.size(), ans.length);
+        for (int i = 0; i < ans.length; i++) assertEquals(expected.get(i), ans[i]);
+    }
+
+}
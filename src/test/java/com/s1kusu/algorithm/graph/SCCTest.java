@@ -0,0 +1,34 @@
+package com.s1kusu.algorithm.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.s1kusu.data_structure.CsrGraph;
+
+public class SCCTest {
+
+    @Test
+    void testComponents() {
+        Random rnd = new Random(0);
+        int n = 200, m = 300;
+        int[] from = new int[m], to = new int[m];
+        SCC scc = new SCC(n);
+        for (int i = 0; i < m; i++) {
+            from[i] = rnd.nextInt(n);
+            to[i] = rnd.nextInt(n);
+            scc.addEdge(from[i], to[i]);
+        }
+        scc.build();
+        int[] cmp = SCC.components(CsrGraph.directed(n, from, to));
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                assertEquals(scc.getOrder(u) == scc.getOrder(v), cmp[u] == cmp[v]);
+            }
+        }
+        for (int i = 0; i < m; i++) assertTrue(cmp[from[i]] <= cmp[to[i]]);
+    }
+
+}
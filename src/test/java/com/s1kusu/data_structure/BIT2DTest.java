@@ -0,0 +1,43 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BIT2DTest {
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        int h = 13, w = 7;
+        long[][] a = new long[h + 1][w + 1];
+        BIT2D bit = new BIT2D(h, w);
+        for (int q = 0; q < 1000; q++) {
+            int i = 1 + rnd.nextInt(h), j = 1 + rnd.nextInt(w);
+            long x = rnd.nextInt(200) - 100;
+            a[i][j] += x;
+            bit.add(i, j, x);
+
+            int i1 = 1 + rnd.nextInt(h), i2 = 1 + rnd.nextInt(h);
+            int j1 = 1 + rnd.nextInt(w), j2 = 1 + rnd.nextInt(w);
+            if(i1 > i2) {
+                int tmp = i1;
+                i1 = i2;
+                i2 = tmp;
+            }
+            if(j1 > j2) {
+                int tmp = j1;
+                j1 = j2;
+                j2 = tmp;
+            }
+            long sum = 0;
+            for (int s = i1; s <= i2; s++) {
+                for (int t = j1; t <= j2; t++) sum += a[s][t];
+            }
+            assertEquals(sum, bit.sum(i1, j1, i2, j2));
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BITTest {
+
+    @Test
+    void testArrayConstructor() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(60);
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextInt(100) + 3_000_000_000L;
+            BIT bit = new BIT(a);
+            BIT expected = new BIT(n);
+            for (int i = 0; i < n; i++) expected.add(i + 1, a[i]);
+            for (int i = 0; i <= n; i++) assertEquals(expected.sum(i), bit.sum(i));
+            for (int l = 1; l <= n; l++) {
+                long sum = 0;
+                for (int r = l; r <= n; r++) {
+                    sum += a[r - 1];
+                    assertEquals(sum, bit.sum(l, r));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLowerBound() {
+        Random rnd = new Random(1);
+        int n = 100;
+        long[] a = new long[n];
+        for (int i = 0; i < n; i++) a[i] = rnd.nextInt(5);
+        BIT bit = new BIT(a);
+        long total = 0;
+        for(long v : a) total += v;
+        for (long k = 0; k <= total + 1; k++) {
+            int expected = 0;
+            long sum = 0;
+            while(0 < k && sum < k && expected < n) sum += a[expected++];
+            if(sum < k) expected = n + 1;
+            assertEquals(expected, bit.lowerBound(k));
+        }
+    }
+
+}
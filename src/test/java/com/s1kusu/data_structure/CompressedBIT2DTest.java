@@ -0,0 +1,48 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBIT2DTest {
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        int p = 200;
+        long[] px = new long[p], py = new long[p], val = new long[p];
+        for (int i = 0; i < p; i++) {
+            // 重複する点も含める
+            px[i] = (rnd.nextInt(40) - 20) * 1_000_000_007L;
+            py[i] = rnd.nextInt(40) - 20;
+        }
+        CompressedBIT2D bit = new CompressedBIT2D(px, py);
+        for (int q = 0; q < 1000; q++) {
+            int k = rnd.nextInt(p);
+            long w = rnd.nextInt(200) - 100;
+            val[k] += w;
+            bit.add(px[k], py[k], w);
+
+            long x1 = (rnd.nextInt(44) - 22) * 1_000_000_007L, x2 = (rnd.nextInt(44) - 22) * 1_000_000_007L;
+            long y1 = rnd.nextInt(44) - 22, y2 = rnd.nextInt(44) - 22;
+            if(x1 > x2) {
+                long tmp = x1;
+                x1 = x2;
+                x2 = tmp;
+            }
+            if(y1 > y2) {
+                long tmp = y1;
+                y1 = y2;
+                y2 = tmp;
+            }
+            long sum = 0;
+            for (int i = 0; i < p; i++) {
+                if(x1 <= px[i] && px[i] < x2 && y1 <= py[i] && py[i] < y2) sum += val[i];
+            }
+            assertEquals(sum, bit.sum(x1, y1, x2, y2));
+        }
+    }
+
+}
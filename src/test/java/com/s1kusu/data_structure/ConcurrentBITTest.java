@@ -0,0 +1,62 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentBITTest {
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        int n = 60;
+        long[] a = new long[n + 1];
+        ConcurrentBIT bit = new ConcurrentBIT(n, 4);
+        for (int q = 0; q < 500; q++) {
+            int i = 1 + rnd.nextInt(n);
+            long x = rnd.nextInt(10);
+            a[i] += x;
+            bit.add(i, x);
+            int l = 1 + rnd.nextInt(n), r = 1 + rnd.nextInt(n);
+            if(l > r) {
+                int tmp = l;
+                l = r;
+                r = tmp;
+            }
+            long sum = 0;
+            for (int j = l; j <= r; j++) sum += a[j];
+            assertEquals(sum, bit.sum(l, r));
+            long k = rnd.nextInt(2000);
+            int expected = 0;
+            long s = 0;
+            while(0 < k && s < k && expected < n) s += a[++expected];
+            if(s < k) expected = n + 1;
+            if(k <= 0) expected = 0;
+            assertEquals(expected, bit.lowerBound(k));
+        }
+    }
+
+    @Test
+    void testConcurrentAdd() throws Exception {
+        int n = 1000, ops = 200000;
+        ConcurrentBIT bit = new ConcurrentBIT(n, 8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, ops).parallel().forEach(i -> bit.add(i % n + 1, i % 3))).get();
+        } finally {
+            pool.shutdown();
+        }
+        long[] a = new long[n + 1];
+        for (int i = 0; i < ops; i++) a[i % n + 1] += i % 3;
+        long sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += a[i];
+            assertEquals(sum, bit.sum(i));
+        }
+    }
+
+}
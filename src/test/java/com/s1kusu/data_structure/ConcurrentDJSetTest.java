@@ -0,0 +1,58 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDJSetTest {
+
+    @Test
+    void testUnion() {
+        ConcurrentDJSet dj = new ConcurrentDJSet(10);
+        assertFalse(dj.union(0, 0));
+        assertTrue(dj.union(1, 2));
+        assertTrue(dj.union(2, 3));
+        assertTrue(dj.union(9, 5));
+        assertFalse(dj.union(1, 3));
+        assertEquals(1, dj.root(3));
+        assertEquals(5, dj.root(9));
+        assertEquals(3, dj.countElement(2));
+        assertEquals(7, dj.countSet());
+        assertTrue(dj.same(3, 1));
+        assertFalse(dj.same(3, 5));
+        List<List<Integer>> groups = dj.groups();
+        assertEquals(List.of(1, 2, 3), groups.get(1));
+    }
+
+    @Test
+    void testParallelUnion() throws Exception {
+        int n = 2000, m = 50000;
+        Random rnd = new Random(0);
+        int[] a = new int[m], b = new int[m];
+        for (int i = 0; i < m; i++) {
+            a[i] = rnd.nextInt(n);
+            b[i] = rnd.nextInt(n) % 1500;
+        }
+        DJSet expected = new DJSet(n);
+        for (int i = 0; i < m; i++) expected.union(a[i], b[i]);
+
+        ConcurrentDJSet dj = new ConcurrentDJSet(n);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, m).parallel().forEach(i -> dj.union(a[i], b[i]))).get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected.countSet(), dj.countSet());
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected.countElement(i), dj.countElement(i));
+            assertEquals(expected.same(0, i), dj.same(0, i));
+        }
+    }
+
+}
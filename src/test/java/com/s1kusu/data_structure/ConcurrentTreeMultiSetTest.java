@@ -0,0 +1,48 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTreeMultiSetTest {
+
+    @Test
+    void testUpdate() {
+        ConcurrentTreeMultiSet<Integer> set = new ConcurrentTreeMultiSet<>();
+        assertEquals(2, set.update(10, 2));
+        assertEquals(1, set.push(20));
+        assertEquals(0, set.update(30, 0));
+        assertFalse(set.contains(30));
+        assertEquals(1, set.pop(10));
+        assertEquals(0, set.pop(10));
+        assertFalse(set.contains(10));
+        assertEquals(20, set.first());
+        assertEquals(20, set.floor(25));
+        assertNull(set.ceiling(25));
+    }
+
+    @Test
+    void testConcurrentUpdate() throws InterruptedException {
+        ConcurrentTreeMultiSet<Integer> set = new ConcurrentTreeMultiSet<>();
+        int threads = 4, ops = 20000;
+        List<Thread> list = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            list.add(new Thread(() -> {
+                for (int i = 0; i < ops; i++) {
+                    set.push(i % 8);
+                    if(i % 2 == 1) set.pop((i - 1) % 8);
+                }
+            }));
+        }
+        for(Thread th : list) th.start();
+        for(Thread th : list) th.join();
+        long total = 0;
+        for (int k = 0; k < 8; k++) total += set.count(k);
+        assertEquals((long)threads * ops / 2, total);
+        for(long c : set.values()) assertNotEquals(0L, c);
+    }
+
+}
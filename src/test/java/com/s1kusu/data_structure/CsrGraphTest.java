@@ -0,0 +1,41 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class CsrGraphTest {
+
+    @Test
+    void testDirected() {
+        CsrGraph g = CsrGraph.directed(4, new int[] {0, 2, 0, 3}, new int[] {1, 0, 2, 0}, new long[] {5, 6, 7, 8});
+        assertEquals(4, g.n());
+        assertEquals(4, g.m());
+        assertEquals(2, g.degree(0));
+        assertEquals(0, g.degree(1));
+        assertEquals(1, g.target(g.start(0)));
+        assertEquals(2, g.target(g.start(0) + 1));
+        assertEquals(7, g.weight(g.start(0) + 1));
+        assertEquals(g.end(2), g.start(3));
+
+        CsrGraph r = g.reverse();
+        assertEquals(2, r.degree(0));
+        assertEquals(2, r.target(r.start(0)));
+        assertEquals(6, r.weight(r.start(0)));
+        assertEquals(0, r.target(r.start(1)));
+        assertEquals(5, r.weight(r.start(1)));
+    }
+
+    @Test
+    void testUndirected() {
+        CsrGraph g = CsrGraph.undirected(3, new int[] {0, 1}, new int[] {1, 2});
+        assertEquals(4, g.m());
+        assertEquals(1, g.degree(0));
+        assertEquals(2, g.degree(1));
+        assertEquals(0, g.target(g.start(1)));
+        assertEquals(2, g.target(g.start(1) + 1));
+        assertFalse(g.hasWeights());
+        assertThrows(IllegalStateException.class, () -> g.weight(0));
+    }
+
+}
@@ -123,4 +123,16 @@ public class DJSetTest {
         assertEquals(8, groups.get(5).get(0));
     }
 
+    @Test
+    void testGroupsCsr() {
+        DJSet dj = new DJSet(10);
+        dj.union(0, 1);
+        dj.union(1, 2);
+        dj.union(2, 3);
+        dj.union(9, 5);
+        int[][] csr = dj.groupsCsr();
+        assertArrayEquals(new int[] {0, 4, 5, 7, 8, 9, 10}, csr[0]);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 9, 6, 7, 8}, csr[1]);
+    }
+
 }
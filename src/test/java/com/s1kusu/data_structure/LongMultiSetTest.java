@@ -0,0 +1,99 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class LongMultiSetTest {
+
+    @Test
+    void testPushPop() {
+        LongMultiSet set = new LongMultiSet();
+        assertEquals(1, set.push(5));
+        assertEquals(2, set.push(5));
+        assertEquals(1, set.push(3));
+        assertEquals(3, set.size());
+        assertEquals(2, set.distinctSize());
+        assertEquals(1, set.pop(5));
+        assertEquals(0, set.pop(5));
+        assertFalse(set.contains(5));
+        assertEquals(0, set.pop(7));
+        assertEquals(1, set.size());
+        assertEquals(3, set.popFirst());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testSearch() {
+        LongMultiSet set = new LongMultiSet();
+        set.push(10);
+        set.push(20);
+        set.push(20);
+        set.push(30);
+        assertEquals(10, set.first());
+        assertEquals(30, set.last());
+        assertEquals(20, set.floor(25));
+        assertEquals(20, set.floor(20));
+        assertEquals(Long.MIN_VALUE, set.floor(5));
+        assertEquals(30, set.ceiling(25));
+        assertEquals(Long.MAX_VALUE, set.ceiling(35));
+        assertEquals(30, set.higher(20));
+        assertEquals(10, set.lower(20));
+        assertEquals(Long.MIN_VALUE, set.lower(10));
+    }
+
+    @Test
+    void testKthRank() {
+        LongMultiSet set = new LongMultiSet();
+        set.update(10, 2);
+        set.update(20, 3);
+        set.update(30, 1);
+        assertEquals(10, set.kth(0));
+        assertEquals(10, set.kth(1));
+        assertEquals(20, set.kth(2));
+        assertEquals(20, set.kth(4));
+        assertEquals(30, set.kth(5));
+        assertEquals(0, set.rank(10));
+        assertEquals(2, set.rank(11));
+        assertEquals(5, set.rank(30));
+        assertEquals(6, set.rank(31));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        LongMultiSet set = new LongMultiSet();
+        TreeMap<Long, Long> map = new TreeMap<>();
+        long total = 0;
+        for (int q = 0; q < 20000; q++) {
+            long k = rnd.nextInt(100);
+            if(rnd.nextInt(3) == 0) {
+                long c = map.getOrDefault(k, 0L);
+                assertEquals(c == 0 ? 0 : c - 1, set.pop(k));
+                if(c == 1) map.remove(k);
+                else if(c > 1) map.put(k, c - 1);
+                if(c > 0) total--;
+            }else {
+                map.merge(k, 1L, Long::sum);
+                total++;
+                assertEquals((long)map.get(k), set.push(k));
+            }
+            assertEquals(total, set.size());
+            assertEquals(map.size(), set.distinctSize());
+            long x = rnd.nextInt(110) - 5;
+            Long floor = map.floorKey(x);
+            assertEquals(floor == null ? Long.MIN_VALUE : floor, set.floor(x));
+            Long higher = map.higherKey(x);
+            assertEquals(higher == null ? Long.MAX_VALUE : higher, set.higher(x));
+            long rank = 0;
+            for(Map.Entry<Long, Long> e : map.headMap(x).entrySet()) rank += e.getValue();
+            assertEquals(rank, set.rank(x));
+            if(0 < total && rank < total) assertEquals((long)map.ceilingKey(x), set.kth(rank));
+        }
+    }
+
+}
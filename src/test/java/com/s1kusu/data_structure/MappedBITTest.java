@@ -0,0 +1,58 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedBITTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReopen() throws IOException {
+        Path path = dir.resolve("bit.bin");
+        Random rnd = new Random(0);
+        int n = 50;
+        long[] a = new long[n + 1];
+        try (MappedBIT bit = new MappedBIT(path, n)) {
+            for (int q = 0; q < 200; q++) {
+                int i = 1 + rnd.nextInt(n);
+                long x = rnd.nextInt(100);
+                a[i] += x;
+                bit.add(i, x);
+            }
+        }
+        try (MappedBIT bit = new MappedBIT(path, n)) {
+            for (int l = 1; l <= n; l++) {
+                long sum = 0;
+                for (int r = l; r <= n; r++) {
+                    sum += a[r];
+                    assertEquals(sum, bit.sum(l, r));
+                }
+            }
+            long total = bit.sum(n);
+            if(0 < total) {
+                int x = bit.lowerBound(total);
+                assertEquals(total, bit.sum(x));
+                assertTrue(bit.sum(x - 1) < total);
+            }
+        }
+    }
+
+    @Test
+    void testSizeMismatch() throws IOException {
+        Path path = dir.resolve("bit.bin");
+        new MappedBIT(path, 10).close();
+        long size = Files.size(path);
+        assertThrows(IllegalArgumentException.class, () -> new MappedBIT(path, 20));
+        assertEquals(size, Files.size(path));
+    }
+
+}
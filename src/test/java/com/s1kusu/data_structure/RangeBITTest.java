@@ -0,0 +1,48 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeBITTest {
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            long[] a = new long[n + 1];
+            long[] init = new long[n];
+            for (int i = 0; i < n; i++) init[i] = a[i + 1] = rnd.nextInt(100);
+            RangeBIT bit = new RangeBIT(init);
+            for (int q = 0; q < 200; q++) {
+                int l = 1 + rnd.nextInt(n), r = 1 + rnd.nextInt(n);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                long x = rnd.nextInt(200) - 100;
+                if(rnd.nextBoolean()) {
+                    bit.add(l, r, x);
+                    for (int i = l; i <= r; i++) a[i] += x;
+                }else {
+                    bit.add(l, x);
+                    a[l] += x;
+                }
+                int ql = 1 + rnd.nextInt(n), qr = 1 + rnd.nextInt(n);
+                if(ql > qr) {
+                    int tmp = ql;
+                    ql = qr;
+                    qr = tmp;
+                }
+                long sum = 0;
+                for (int i = ql; i <= qr; i++) sum += a[i];
+                assertEquals(sum, bit.sum(ql, qr));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class TreeMultiSetTest {
+
+    @Test
+    void testFromSorted() {
+        TreeMultiSet<Long> set = TreeMultiSet.fromSorted(new long[] {1, 1, 2, 5, 5, 5});
+        assertEquals(3, set.size());
+        assertEquals(2, set.count(1L));
+        assertEquals(1, set.count(2L));
+        assertEquals(3, set.count(5L));
+        assertEquals(2L, set.lower(5L));
+        assertEquals(1L, set.first());
+        assertEquals(5L, set.last());
+    }
+
+    @Test
+    void testMerge() {
+        TreeMultiSet<Integer> a = TreeMultiSet.fromSorted(new Integer[] {1, 3, 3, 7});
+        TreeMultiSet<Integer> b = new TreeMultiSet<>();
+        b.update(0, 2);
+        b.update(3, -2);
+        b.update(9, 1);
+        a.merge(b);
+        assertEquals(4, a.size());
+        assertEquals(2, a.count(0));
+        assertFalse(a.contains(3));
+        assertEquals(1, a.count(7));
+        assertEquals(9, a.last());
+
+        a.addAll(new Integer[] {2, 7, 7});
+        assertEquals(5, a.size());
+        assertEquals(3, a.count(7));
+        assertEquals(1, a.count(2));
+        assertEquals(0, a.pop(2));
+        assertFalse(a.contains(2));
+    }
+
+    @Test
+    void testUnsorted() {
+        assertThrows(IllegalArgumentException.class, () -> TreeMultiSet.fromSorted(new long[] {5, 1, 3}));
+        TreeMultiSet<Integer> set = TreeMultiSet.fromSorted(new Integer[] {1, 2, 2});
+        assertThrows(IllegalArgumentException.class, () -> set.addAll(new Integer[] {3, 4, 0}));
+        assertEquals(2, set.size());
+        assertEquals(2, set.count(2));
+        assertFalse(set.contains(3));
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.s1kusu.data_structure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WeightedDJSetTest {
+
+    @Test
+    void testUnion() {
+        WeightedDJSet dj = new WeightedDJSet(5);
+        assertTrue(dj.union(0, 1, 3));
+        assertTrue(dj.union(1, 2, -5));
+        assertTrue(dj.union(3, 2, 4));
+        assertEquals(-2, dj.diff(0, 2));
+        assertEquals(2, dj.diff(2, 0));
+        assertEquals(-6, dj.diff(0, 3));
+        assertTrue(dj.union(3, 0, 6));
+        assertFalse(dj.union(3, 0, 5));
+        assertEquals(-6, dj.diff(0, 3));
+        assertEquals(4, dj.countElement(3));
+        assertEquals(2, dj.countSet());
+        assertThrows(IllegalArgumentException.class, () -> dj.diff(0, 4));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        int n = 200;
+        long[] x = new long[n];
+        for (int i = 0; i < n; i++) x[i] = rnd.nextInt(1000000);
+        WeightedDJSet dj = new WeightedDJSet(n);
+        for (int q = 0; q < 1000; q++) {
+            int a = rnd.nextInt(n), b = rnd.nextInt(n);
+            assertTrue(dj.union(a, b, x[b] - x[a]));
+            int c = rnd.nextInt(n), d = rnd.nextInt(n);
+            if(dj.same(c, d)) {
+                assertEquals(x[d] - x[c], dj.diff(c, d));
+                assertFalse(dj.union(c, d, x[d] - x[c] + 1));
+            }
+        }
+    }
+
+}
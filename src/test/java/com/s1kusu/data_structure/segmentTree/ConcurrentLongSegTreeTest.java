@@ -0,0 +1,82 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentLongSegTreeTest {
+
+    @Test
+    void testQuery() {
+        Random rnd = new Random(0);
+        int n = 50;
+        long[] a = new long[n];
+        ConcurrentLongSegTree seg = new ConcurrentLongSegTree(n, 0L, Long::sum);
+        for (int q = 0; q < 500; q++) {
+            int k = rnd.nextInt(n);
+            a[k] = rnd.nextInt(10);
+            seg.set(k, a[k]);
+            int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+            if(l > r) {
+                int tmp = l;
+                l = r;
+                r = tmp;
+            }
+            long sum = 0;
+            for (int i = l; i < r; i++) sum += a[i];
+            assertEquals(sum, seg.query(l, r));
+            assertEquals(a[k], seg.get(k));
+
+            long limit = rnd.nextInt(40);
+            int right = l;
+            long s = 0;
+            while(right < n && s + a[right] <= limit) s += a[right++];
+            assertEquals(right, seg.maxRight(l, x -> x <= limit));
+            int left = r;
+            s = 0;
+            while(0 < left && s + a[left - 1] <= limit) s += a[--left];
+            assertEquals(left, seg.minLeft(r, x -> x <= limit));
+        }
+    }
+
+    @Test
+    void testConcurrentSet() throws InterruptedException {
+        int n = 64, writers = 4, ops = 20000;
+        ConcurrentLongSegTree seg = new ConcurrentLongSegTree(n, 0L, Long::sum);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean decreased = new AtomicBoolean(false);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int id = w;
+            threads.add(new Thread(() -> {
+                // 各スレッドは自分の担当するindexのみを更新する
+                for (int i = 0; i < ops; i++) {
+                    int k = (i % (n / writers)) * writers + id;
+                    seg.set(k, seg.get(k) + 1);
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            // 値は増える一方なので、一貫した状態を読んでいれば総和は減少しない
+            long prev = 0;
+            while(running.get()) {
+                long cur = seg.query(0, n);
+                if(cur < prev) decreased.set(true);
+                prev = cur;
+            }
+        });
+        reader.start();
+        for(Thread t : threads) t.start();
+        for(Thread t : threads) t.join();
+        running.set(false);
+        reader.join();
+        assertFalse(decreased.get());
+        assertEquals((long)writers * ops, seg.query(0, n));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DynamicLazySegTreeTest {
+
+    @Test
+    void testRangeAddRangeSum() {
+        long lo = -1_000_000_000_000_000_000L, hi = 1_000_000_000_000_000_000L;
+        DynamicLazySegTree seg = DynamicLazySegTree.rangeAddRangeSum(lo, hi);
+        assertEquals(0, seg.allProd());
+        seg.apply(lo, hi, 1);
+        assertEquals(hi - lo, seg.allProd());
+        seg.apply(-5, 5, 2);
+        assertEquals(30, seg.prod(-5, 5));
+        assertEquals(3, seg.get(4));
+        assertEquals(1, seg.get(5));
+        seg.set(hi - 1, 100);
+        assertEquals(100, seg.get(hi - 1));
+        assertEquals(hi - lo + 20 + 99, seg.allProd());
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        long base = 123_456_789_012_345L;
+        int n = 64;
+        for (int t = 0; t < 20; t++) {
+            DynamicLazySegTree seg = DynamicLazySegTree.rangeAddRangeSum(0, 1L << 60);
+            long[] a = new long[n];
+            for (int q = 0; q < 300; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                switch (rnd.nextInt(3)) {
+                case 0:
+                    long x = rnd.nextInt(200) - 100;
+                    seg.apply(base + l, base + r, x);
+                    for (int i = l; i < r; i++) a[i] += x;
+                    break;
+                case 1:
+                    long v = rnd.nextInt(200) - 100;
+                    seg.set(base + l, v);
+                    if(l < n) a[l] = v;
+                    else seg.set(base + l, 0);
+                    break;
+                default:
+                    long sum = 0;
+                    for (int i = l; i < r; i++) sum += a[i];
+                    assertEquals(sum, seg.prod(base + l, base + r));
+                }
+            }
+            long total = 0;
+            for(long v : a) total += v;
+            assertEquals(total, seg.allProd());
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class LazySegTreeTest {
+
+    /** 区間加算・区間最大値 */
+    private static LazySegTree<Long, Long> rangeAddRangeMax(Long[] a, ForkJoinPool pool) {
+        if(pool == null) {
+            return new LazySegTree<>(a, () -> Long.MIN_VALUE / 4, Math::max, () -> 0L,
+                    (x, s) -> x + s, Long::sum);
+        }
+        return new LazySegTree<>(a, () -> Long.MIN_VALUE / 4, Math::max, () -> 0L,
+                (x, s) -> x + s, Long::sum, pool);
+    }
+
+    @Test
+    void testParallelBuild() {
+        Random rnd = new Random(0);
+        int n = 200003;
+        Long[] a = new Long[n];
+        for (int i = 0; i < n; i++) a[i] = (long)rnd.nextInt(1000000);
+        LazySegTree<Long, Long> expected = rangeAddRangeMax(a, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            LazySegTree<Long, Long> seg = rangeAddRangeMax(a, pool);
+            assertEquals(expected.allProd(), seg.allProd());
+            for (int q = 0; q < 2000; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                if(q % 2 == 0) {
+                    long x = rnd.nextInt(1000) - 500;
+                    expected.apply(l, r, x);
+                    seg.apply(l, r, x);
+                }
+                assertEquals(expected.prod(l, r), seg.prod(l, r));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMaxRightMinLeft() {
+        Random rnd = new Random(1);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            Long[] init = new Long[n];
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) init[i] = a[i] = rnd.nextInt(100);
+            LazySegTree<Long, Long> seg = rangeAddRangeMax(init, null);
+            for (int q = 0; q < 100; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                long x = rnd.nextInt(21) - 10;
+                seg.apply(l, r, x);
+                for (int i = l; i < r; i++) a[i] += x;
+
+                int k = rnd.nextInt(n + 1);
+                long limit = rnd.nextInt(120) - 10;
+                int right = k;
+                while(right < n && a[right] <= limit) right++;
+                assertEquals(right, seg.maxRight(k, v -> v <= limit));
+                int left = k;
+                while(0 < left && a[left - 1] <= limit) left--;
+                assertEquals(left, seg.minLeft(k, v -> v <= limit));
+            }
+        }
+    }
+
+}
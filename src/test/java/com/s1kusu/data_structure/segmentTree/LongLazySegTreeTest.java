@@ -0,0 +1,107 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LongLazySegTreeTest {
+
+    @Test
+    void testRangeAdd() {
+        LongLazySegTree seg = LongLazySegTree.rangeAddRangeSum(new long[]{1, 2, 3, 4, 5});
+        assertEquals(15, seg.allProd());
+        seg.apply(1, 4, 10);
+        assertEquals(45, seg.allProd());
+        assertEquals(12, seg.get(1));
+        assertEquals(26, seg.prod(0, 3));
+        assertEquals(5, seg.prod(4, 5));
+        seg.set(2, 0);
+        assertEquals(32, seg.prod(0, 5));
+        seg.apply(0, 7);
+        assertEquals(8, seg.get(0));
+    }
+
+    @Test
+    void testRangeAssign() {
+        LongLazySegTree seg = LongLazySegTree.rangeAssignRangeSum(new long[]{1, 2, 3, 4, 5});
+        seg.apply(0, 3, 7);
+        assertEquals(21, seg.prod(0, 3));
+        assertEquals(30, seg.allProd());
+        seg.apply(2, 5, -1);
+        assertEquals(7, seg.get(1));
+        assertEquals(-1, seg.get(2));
+        assertEquals(11, seg.allProd());
+    }
+
+    @Test
+    void testRangeAffine() {
+        long mod = 998244353;
+        LongLazySegTree seg = LongLazySegTree.rangeAffineRangeSum(new long[]{1, 2, 3, 4, 5}, mod);
+        seg.apply(1, 4, LongLazySegTree.affine(2, 3));
+        assertEquals(1 + 7 + 9 + 11 + 5, seg.allProd());
+        seg.apply(0, 5, LongLazySegTree.affine(mod - 1, 0));
+        assertEquals(mod - 33, seg.allProd());
+        assertEquals(mod - 9, seg.get(2));
+    }
+
+    @Test
+    void testMaxRightMinLeft() {
+        LongLazySegTree seg = LongLazySegTree.rangeAddRangeSum(new long[]{1, 1, 1, 1, 1, 1});
+        seg.apply(2, 4, 2);
+        assertEquals(3, seg.maxRight(0, x -> x <= 5));
+        assertEquals(4, seg.maxRight(0, x -> x <= 8));
+        assertEquals(6, seg.maxRight(4, x -> x <= 8));
+        assertEquals(3, seg.minLeft(6, x -> x <= 5));
+        assertEquals(0, seg.minLeft(6, x -> x <= 10));
+        assertEquals(2, seg.minLeft(2, x -> x <= 0));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 100; t++) {
+            int n = 1 + rnd.nextInt(50);
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextInt(100);
+            LongLazySegTree add = LongLazySegTree.rangeAddRangeSum(a);
+            LongLazySegTree assign = LongLazySegTree.rangeAssignRangeSum(a);
+            long[] b = a.clone();
+            long[] c = a.clone();
+            for (int q = 0; q < 100; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                long x = rnd.nextInt(200) - 100;
+                switch (rnd.nextInt(3)) {
+                case 0:
+                    add.apply(l, r, x);
+                    assign.apply(l, r, x);
+                    for (int i = l; i < r; i++) {
+                        b[i] += x;
+                        c[i] = x;
+                    }
+                    break;
+                case 1:
+                    long sb = 0, sc = 0;
+                    for (int i = l; i < r; i++) {
+                        sb += b[i];
+                        sc += c[i];
+                    }
+                    assertEquals(sb, add.prod(l, r));
+                    assertEquals(sc, assign.prod(l, r));
+                    break;
+                default:
+                    int k = rnd.nextInt(n);
+                    assertEquals(b[k], add.get(k));
+                    assertEquals(c[k], assign.get(k));
+                }
+            }
+        }
+    }
+
+}
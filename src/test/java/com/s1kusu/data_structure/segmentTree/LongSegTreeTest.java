@@ -0,0 +1,88 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class LongSegTreeTest {
+
+    @Test
+    void testQuery() {
+        LongSegTree seg = new LongSegTree(new long[]{5, 3, 8, 1, 9, 2, 7}, 0L, Long::sum);
+        assertEquals(35, seg.query(0, 7));
+        assertEquals(0, seg.query(3, 3));
+        assertEquals(11, seg.query(1, 3));
+        assertEquals(12, seg.query(3, 6));
+        seg.set(3, 10);
+        assertEquals(10, seg.get(3));
+        assertEquals(44, seg.query(0, 7));
+        assertEquals(21, seg.query(3, 6));
+    }
+
+    @Test
+    void testSetAll() {
+        LongSegTree seg = new LongSegTree(8, 0L, Long::sum);
+        seg.setAll(new int[]{5, 1, 2, 5}, new long[]{3, 4, 6, 10});
+        assertEquals(20, seg.query(0, 8));
+        assertEquals(10, seg.get(5));
+        assertEquals(10, seg.query(0, 3));
+        assertEquals(10, seg.query(3, 8));
+        seg.setAll(new int[0], new long[0]);
+        assertEquals(20, seg.query(0, 8));
+    }
+
+    @Test
+    void testQueryMin() {
+        LongSegTree seg = new LongSegTree(5, Long.MAX_VALUE, Math::min);
+        assertEquals(Long.MAX_VALUE, seg.query(0, 5));
+        seg.set(0, 4);
+        seg.set(2, -1);
+        seg.set(4, 6);
+        assertEquals(-1, seg.query(0, 5));
+        assertEquals(4, seg.query(0, 2));
+        assertEquals(6, seg.query(3, 5));
+    }
+
+    @Test
+    void testMaxRight() {
+        LongSegTree seg = new LongSegTree(new long[]{1, 2, 3, 4, 5}, 0L, Long::sum);
+        assertEquals(0, seg.maxRight(0, x -> x < 1));
+        assertEquals(1, seg.maxRight(0, x -> x <= 2));
+        assertEquals(3, seg.maxRight(0, x -> x <= 6));
+        assertEquals(5, seg.maxRight(0, x -> x <= 15));
+        assertEquals(3, seg.maxRight(2, x -> x <= 6));
+        assertEquals(4, seg.maxRight(2, 4, x -> true));
+    }
+
+    @Test
+    void testMinLeft() {
+        LongSegTree seg = new LongSegTree(new long[]{1, 2, 3, 4, 5}, 0L, Long::sum);
+        assertEquals(5, seg.minLeft(5, x -> x < 5));
+        assertEquals(4, seg.minLeft(5, x -> x <= 5));
+        assertEquals(3, seg.minLeft(5, x -> x <= 9));
+        assertEquals(0, seg.minLeft(5, x -> x <= 15));
+        assertEquals(1, seg.minLeft(3, x -> x <= 5));
+        assertEquals(2, seg.minLeft(2, 4, x -> true));
+        assertEquals(0, seg.minLeft(0, x -> false));
+    }
+
+    @Test
+    void testIntSegTree() {
+        IntSegTree seg = new IntSegTree(new int[]{3, 1, 4, 1, 5}, Integer.MIN_VALUE, Math::max);
+        assertEquals(5, seg.query(0, 5));
+        assertEquals(4, seg.query(0, 3));
+        seg.set(2, 0);
+        assertEquals(3, seg.query(0, 4));
+        assertEquals(4, seg.maxRight(0, x -> x < 5));
+    }
+
+    @Test
+    void testDoubleSegTree() {
+        DoubleSegTree seg = new DoubleSegTree(new double[]{0.5, 1.5, 2.0}, 0.0, Double::sum);
+        assertEquals(4.0, seg.query(0, 3));
+        seg.set(0, 1.0);
+        assertEquals(2.5, seg.query(0, 2));
+        assertEquals(2, seg.maxRight(0, x -> x < 3.0));
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedLongSegTreeTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReopen() throws IOException {
+        Path path = dir.resolve("seg.bin");
+        Random rnd = new Random(0);
+        int n = 37;
+        long[] a = new long[n];
+        Arrays.fill(a, Long.MAX_VALUE);
+        try (MappedLongSegTree seg = new MappedLongSegTree(path, n, Long.MAX_VALUE, Math::min)) {
+            assertEquals(Long.MAX_VALUE, seg.allProd());
+            for (int q = 0; q < 100; q++) {
+                int k = rnd.nextInt(n);
+                a[k] = rnd.nextInt(1000);
+                seg.set(k, a[k]);
+            }
+        }
+        try (MappedLongSegTree seg = new MappedLongSegTree(path, n, Long.MAX_VALUE, Math::min)) {
+            for (int l = 0; l <= n; l++) {
+                long min = Long.MAX_VALUE;
+                for (int r = l; r <= n; r++) {
+                    assertEquals(min, seg.query(l, r));
+                    if(r < n) min = Math.min(min, a[r]);
+                }
+            }
+            assertEquals(a[5], seg.get(5));
+        }
+    }
+
+    @Test
+    void testSizeMismatch() throws IOException {
+        Path path = dir.resolve("seg.bin");
+        new MappedLongSegTree(path, 5, 0L, Long::sum).close();
+        long size = Files.size(path);
+        // 要素数が異なりファイルの長さも異なる場合
+        assertThrows(IllegalArgumentException.class, () -> new MappedLongSegTree(path, 100, 0L, Long::sum));
+        // 要素数が異なるがファイルの長さは同じ場合
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new MappedLongSegTree(path, 7, 0L, Long::sum));
+        assertTrue(ex.getMessage().contains("7"));
+        assertEquals(size, Files.size(path));
+    }
+
+}
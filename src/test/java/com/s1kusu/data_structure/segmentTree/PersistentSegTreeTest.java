@@ -0,0 +1,62 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSegTreeTest {
+
+    @Test
+    void testSet() {
+        PersistentSegTree seg = new PersistentSegTree(new long[]{1, 2, 3, 4}, 0L, Long::sum);
+        int v1 = seg.set(0, 2, 10);
+        int v2 = seg.set(0, 0, -1);
+        assertEquals(10, seg.query(0, 0, 4));
+        assertEquals(17, seg.query(v1, 0, 4));
+        assertEquals(8, seg.query(v2, 0, 4));
+        assertEquals(3, seg.get(v2, 2));
+        assertEquals(10, seg.get(v1, 2));
+        int v3 = seg.set(1, 5);
+        assertEquals(v2 + 1, v3);
+        assertEquals(5, seg.get(v3, 1));
+        assertEquals(4, seg.versions());
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 30; t++) {
+            int n = 1 + rnd.nextInt(30);
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextInt(100);
+            PersistentSegTree seg = new PersistentSegTree(a, Long.MAX_VALUE, Math::min);
+            List<long[]> versions = new ArrayList<>();
+            versions.add(a);
+            for (int q = 0; q < 200; q++) {
+                int ver = rnd.nextInt(versions.size());
+                if(rnd.nextBoolean()) {
+                    long[] b = versions.get(ver).clone();
+                    int k = rnd.nextInt(n);
+                    b[k] = rnd.nextInt(100);
+                    assertEquals(versions.size(), seg.set(ver, k, b[k]));
+                    versions.add(b);
+                }else {
+                    int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                    if(l > r) {
+                        int tmp = l;
+                        l = r;
+                        r = tmp;
+                    }
+                    long min = Long.MAX_VALUE;
+                    for (int i = l; i < r; i++) min = Math.min(min, versions.get(ver)[i]);
+                    assertEquals(min, seg.query(ver, l, r));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RMQTest {
+
+    @Test
+    void testQuery() {
+        RMQ rmq = new RMQ(5);
+        assertEquals(Integer.MAX_VALUE, rmq.query(0, 5));
+        rmq.update(0, 4);
+        rmq.update(2, -1);
+        rmq.update(4, 6);
+        assertEquals(-1, rmq.query(0, 5));
+        assertEquals(4, rmq.query(0, 2));
+        assertEquals(6, rmq.query(3, 5));
+        assertEquals(Integer.MAX_VALUE, rmq.query(3, 3));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            int[] a = new int[n];
+            Arrays.fill(a, Integer.MAX_VALUE);
+            RMQ rmq = new RMQ(n);
+            for (int q = 0; q < 200; q++) {
+                int k = rnd.nextInt(n);
+                a[k] = rnd.nextInt(1000) - 500;
+                rmq.update(k, a[k]);
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                int min = Integer.MAX_VALUE;
+                for (int i = l; i < r; i++) min = Math.min(min, a[i]);
+                assertEquals(min, rmq.query(l, r));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SegTreeBeatsTest {
+
+    @Test
+    void testChminChmax() {
+        SegTreeBeats seg = new SegTreeBeats(new long[]{5, 1, 9, 3, 7});
+        assertEquals(25, seg.sum(0, 5));
+        seg.chmin(0, 5, 6);
+        assertEquals(21, seg.sum(0, 5));
+        assertEquals(6, seg.max(0, 5));
+        seg.chmax(1, 4, 4);
+        assertEquals(5 + 4 + 6 + 4 + 6, seg.sum(0, 5));
+        assertEquals(4, seg.min(1, 4));
+        seg.add(0, 2, -10);
+        assertEquals(-6, seg.min(0, 5));
+        assertEquals(6, seg.max(0, 5));
+        assertEquals(-11, seg.sum(0, 2));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 100; t++) {
+            int n = 1 + rnd.nextInt(40);
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextInt(200) - 100;
+            SegTreeBeats seg = new SegTreeBeats(a);
+            for (int q = 0; q < 200; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                long x = rnd.nextInt(200) - 100;
+                switch (rnd.nextInt(4)) {
+                case 0:
+                    seg.chmin(l, r, x);
+                    for (int i = l; i < r; i++) a[i] = Math.min(a[i], x);
+                    break;
+                case 1:
+                    seg.chmax(l, r, x);
+                    for (int i = l; i < r; i++) a[i] = Math.max(a[i], x);
+                    break;
+                case 2:
+                    seg.add(l, r, x);
+                    for (int i = l; i < r; i++) a[i] += x;
+                    break;
+                default:
+                    long sum = 0, max = Long.MIN_VALUE, min = Long.MAX_VALUE;
+                    for (int i = l; i < r; i++) {
+                        sum += a[i];
+                        max = Math.max(max, a[i]);
+                        min = Math.min(min, a[i]);
+                    }
+                    assertEquals(sum, seg.sum(l, r));
+                    assertEquals(max, seg.max(l, r));
+                    assertEquals(min, seg.min(l, r));
+                }
+            }
+        }
+    }
+
+}
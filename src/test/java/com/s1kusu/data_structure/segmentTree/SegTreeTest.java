@@ -0,0 +1,120 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class SegTreeTest {
+
+    @Test
+    void testQuery() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            Long[] a = new Long[n];
+            for (int i = 0; i < n; i++) a[i] = (long)rnd.nextInt(100);
+            SegTree<Long> seg = new SegTree<>(a, 0L, Long::sum);
+            for (int q = 0; q < 200; q++) {
+                if(rnd.nextBoolean()) {
+                    int k = rnd.nextInt(n);
+                    a[k] = (long)rnd.nextInt(100);
+                    seg.set(k, a[k]);
+                }
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                long sum = 0;
+                for (int i = l; i < r; i++) sum += a[i];
+                assertEquals(sum, seg.query(l, r));
+            }
+        }
+    }
+
+    @Test
+    void testMinLeft() {
+        Random rnd = new Random(1);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            Long[] a = new Long[n];
+            for (int i = 0; i < n; i++) a[i] = (long)rnd.nextInt(10);
+            SegTree<Long> seg = new SegTree<>(a, 0L, Long::sum);
+            for (int q = 0; q < 100; q++) {
+                int r = rnd.nextInt(n + 1);
+                long limit = rnd.nextInt(50);
+                int expected = r;
+                long sum = 0;
+                while(0 < expected && sum + a[expected - 1] <= limit) sum += a[--expected];
+                assertEquals(expected, seg.minLeft(r, x -> x <= limit));
+
+                int l = rnd.nextInt(r + 1);
+                int bounded = Math.max(l, expected);
+                assertEquals(bounded, seg.minLeft(l, r, x -> x <= limit));
+            }
+        }
+    }
+
+    @Test
+    void testSetAll() {
+        Random rnd = new Random(2);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(40);
+            Long[] a = new Long[n];
+            for (int i = 0; i < n; i++) a[i] = 0L;
+            SegTree<Long> seg = new SegTree<>(n, 0L, Long::sum);
+            for (int q = 0; q < 50; q++) {
+                int k = rnd.nextInt(n + 1);
+                int[] indices = new int[k];
+                Long[] values = new Long[k];
+                for (int i = 0; i < k; i++) {
+                    indices[i] = rnd.nextInt(n);
+                    values[i] = (long)rnd.nextInt(100);
+                    a[indices[i]] = values[i];
+                }
+                seg.setAll(indices, values);
+                for (int l = 0; l <= n; l++) {
+                    long sum = 0;
+                    for (int r = l; r <= n; r++) {
+                        assertEquals(sum, seg.query(l, r));
+                        if(r < n) sum += a[r];
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParallelBuild() {
+        Random rnd = new Random(3);
+        int n = 200003;
+        Long[] a = new Long[n];
+        for (int i = 0; i < n; i++) a[i] = (long)rnd.nextInt(1000000);
+        SegTree<Long> expected = new SegTree<>(a, Long.MIN_VALUE, Math::max);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SegTree<Long> seg = new SegTree<>(a, Long.MIN_VALUE, Math::max, pool);
+            assertEquals(expected.query(0, n), seg.query(0, n));
+            for (int q = 0; q < 2000; q++) {
+                int l = rnd.nextInt(n + 1), r = rnd.nextInt(n + 1);
+                if(l > r) {
+                    int tmp = l;
+                    l = r;
+                    r = tmp;
+                }
+                assertEquals(expected.query(l, r), seg.query(l, r));
+            }
+            int k = rnd.nextInt(n);
+            seg.set(k, Long.MAX_VALUE);
+            expected.set(k, Long.MAX_VALUE);
+            assertEquals(expected.query(0, k + 1), seg.query(0, k + 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.s1kusu.data_structure.segmentTree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class StaticRMQTest {
+
+    @Test
+    void testQuery() {
+        StaticRMQ rmq = new StaticRMQ(new int[]{5, 3, 8, 1, 9, 2, 7});
+        assertEquals(1, rmq.query(0, 7));
+        assertEquals(3, rmq.query(0, 3));
+        assertEquals(2, rmq.query(4, 7));
+        assertEquals(9, rmq.query(4, 5));
+        assertEquals(Integer.MAX_VALUE, rmq.query(3, 3));
+        assertEquals(Integer.MAX_VALUE, new StaticRMQ(new int[0]).query(0, 0));
+    }
+
+    @Test
+    void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int n = 1 + rnd.nextInt(70);
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextInt();
+            StaticRMQ rmq = new StaticRMQ(a);
+            for (int l = 0; l <= n; l++) {
+                int min = Integer.MAX_VALUE;
+                for (int r = l; r <= n; r++) {
+                    assertEquals(min, rmq.query(l, r));
+                    if(r < n) min = Math.min(min, a[r]);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.s1kusu.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedLongArrayTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReopen() throws IOException {
+        Path path = dir.resolve("array.bin");
+        try (MappedLongArray a = new MappedLongArray(path, 100)) {
+            assertTrue(a.isCreated());
+            assertEquals(100, a.length());
+            assertEquals(0, a.get(99));
+            a.set(3, -7);
+            a.set(99, Long.MAX_VALUE);
+            a.add(3, 10);
+        }
+        assertEquals(800, Files.size(path));
+        try (MappedLongArray a = new MappedLongArray(path, 100)) {
+            assertFalse(a.isCreated());
+            assertEquals(3, a.get(3));
+            assertEquals(Long.MAX_VALUE, a.get(99));
+            assertEquals(0, a.get(50));
+        }
+    }
+
+    @Test
+    void testLengthMismatch() throws IOException {
+        Path path = dir.resolve("array.bin");
+        new MappedLongArray(path, 10).close();
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new MappedLongArray(path, 20));
+        assertTrue(ex.getMessage().contains("160"));
+        assertTrue(ex.getMessage().contains("80"));
+        assertEquals(80, Files.size(path));
+    }
+
+}